@@ -0,0 +1,65 @@
+package com.study.boardserver.domain.security.config;
+
+import com.study.boardserver.domain.security.controller.JwksController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 없이 호출할 수 있는 경로 확인 비용 측정
+ *
+ * legacyAntMatchers : SecurityConfig 에 나열하던 Ant pattern 을 하나씩 비교
+ * legacyExcludedUrl : JwtAuthenticationFilter.shouldNotFilter 의 stream 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicPathMatcherBenchmark {
+
+    private static final String[] EXCLUDED_URL = {"/api/members/auth/login", "/api/members/auth/token"};
+
+    @Param({"/api/members/auth/login", "/.well-known/jwks.json", "/api/boards/1/comments"})
+    private String path;
+
+    private MockHttpServletRequest request;
+
+    private PublicPathMatcher publicPathMatcher;
+
+    private RequestMatcher legacyAntMatchers;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("GET", path);
+        publicPathMatcher = new PublicPathMatcher();
+        legacyAntMatchers = new OrRequestMatcher(
+                new AntPathRequestMatcher("/api/members/sign-up/email"),
+                new AntPathRequestMatcher("/api/members/nickname"),
+                new AntPathRequestMatcher("/api/members/email-auth"),
+                new AntPathRequestMatcher("/api/members/email-authentication"),
+                new AntPathRequestMatcher("/api/members/sign-up"),
+                new AntPathRequestMatcher("/api/members/auth/login"),
+                new AntPathRequestMatcher("/api/members/auth/token"),
+                new AntPathRequestMatcher(JwksController.JWKS_PATH, HttpMethod.GET.name()));
+    }
+
+    @Benchmark
+    public boolean matcher() {
+        return publicPathMatcher.matches(request);
+    }
+
+    @Benchmark
+    public boolean legacyAntMatchers() {
+        return legacyAntMatchers.matches(request);
+    }
+
+    @Benchmark
+    public boolean legacyExcludedUrl() {
+        return Arrays.stream(EXCLUDED_URL).anyMatch(request.getRequestURI()::startsWith);
+    }
+}
@@ -0,0 +1,146 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.domain.security.config.PublicPathMatcher;
+import com.study.boardserver.global.error.exception.MemberAuthException;
+import com.study.boardserver.global.error.response.ErrorResponse;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.doFilterInternal 전체 처리량 측정
+ *
+ * header 추출 -> 서명 검증 -> 로그아웃 확인 -> 인증 정보 생성까지 포함
+ * 만료 / 형식 오류 token 은 401 응답 작성까지 포함 (legacy* : 예외 발생 후 직렬화하던 이전 방식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain FILTER_CHAIN = (request, response) -> { };
+
+    @Param({"HS256", "ES256"})
+    private SignatureAlgorithm algorithm;
+
+    @Param({"false", "true"})
+    private boolean statelessPrincipal;
+
+    /**
+     * 0 이면 검증 캐시 사용 안 함
+     */
+    @Param({"0", "10000"})
+    private long verifiedCacheSize;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private MockHttpServletRequest authenticatedRequest;
+
+    private MockHttpServletRequest logoutRequest;
+
+    private MockHttpServletRequest anonymousRequest;
+
+    private MockHttpServletRequest expiredRequest;
+
+    private MockHttpServletRequest malformedRequest;
+
+    private String expiredToken;
+
+    private MockHttpServletResponse response;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        JwtBenchmarkFixture fixture = new JwtBenchmarkFixture(algorithm, statelessPrincipal, verifiedCacheSize);
+        objectMapper = new ObjectMapper();
+        jwtTokenProvider = fixture.getJwtTokenProvider();
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, fixture.getErrorResponseWriter(),
+                new PublicPathMatcher());
+
+        // 다른 회원의 로그아웃 token 이 있는 상태에서 측정
+        for (int i = 0; i < 1000; i++) {
+            fixture.revoke(fixture.issueAccessToken());
+        }
+
+        String logoutToken = fixture.issueAccessToken();
+        fixture.revoke(logoutToken);
+
+        authenticatedRequest = request(fixture.issueAccessToken());
+        logoutRequest = request(logoutToken);
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/boards");
+        expiredToken = fixture.issueExpiredAccessToken();
+        expiredRequest = request(expiredToken);
+        malformedRequest = request("malformed-token");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication authenticated() throws ServletException, IOException {
+        return doFilter(authenticatedRequest);
+    }
+
+    @Benchmark
+    public Authentication logoutToken() throws ServletException, IOException {
+        return doFilter(logoutRequest);
+    }
+
+    @Benchmark
+    public Authentication anonymous() throws ServletException, IOException {
+        return doFilter(anonymousRequest);
+    }
+
+    @Benchmark
+    public int expiredToken() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtAuthenticationFilter.doFilterInternal(expiredRequest, response, FILTER_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int malformedToken() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtAuthenticationFilter.doFilterInternal(malformedRequest, response, FILTER_CHAIN);
+        return response.getStatus();
+    }
+
+    @Benchmark
+    public int legacyExpiredToken() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            jwtTokenProvider.extractClaims(expiredToken);
+        } catch (MemberAuthException e) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            objectMapper.writeValue(response.getWriter(), ErrorResponse.builder()
+                    .status(HttpStatus.UNAUTHORIZED.value())
+                    .message(e.getMessage())
+                    .build());
+        }
+        return response.getStatus();
+    }
+
+    private Authentication doFilter(MockHttpServletRequest request) throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilterInternal(request, response, FILTER_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
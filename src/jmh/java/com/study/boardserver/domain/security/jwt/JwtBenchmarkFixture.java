@@ -0,0 +1,105 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.domain.security.jwt.key.JwtKeyManager;
+import com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import com.study.boardserver.domain.security.jwt.revocation.TokenVersionService;
+import com.study.boardserver.global.error.response.ErrorResponseWriter;
+import com.study.boardserver.global.redis.InMemoryTokenStore;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * benchmark 용 JwtTokenProvider 구성 (redis / DB 없이 메모리로 동작)
+ */
+public class JwtBenchmarkFixture {
+
+    static final String SECRET = "secret_key";
+    static final String EMAIL = "test@test.com";
+    static final String ROLE = MemberRole.ROLE_USER.name();
+    static final long ACCESS_TOKEN_VALID = 1800000L;
+    static final long REFRESH_TOKEN_VALID = 1209600000L;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public JwtBenchmarkFixture(SignatureAlgorithm algorithm, boolean statelessPrincipal, long verifiedCacheSize) {
+        Member member = Member.builder()
+                .email(EMAIL)
+                .nickname("닉네임")
+                .password("password123!")
+                .role(MemberRole.ROLE_USER)
+                .build();
+        UserDetails userDetails = new CustomUserDetails(member);
+
+        InMemoryTokenStore tokenStore = new InMemoryTokenStore();
+        RedisMessageListenerContainer redisMessageListenerContainer = new RedisMessageListenerContainer();
+
+        tokenRevocationService = new TokenRevocationService(tokenStore,
+                new StringRedisTemplate(), redisMessageListenerContainer);
+        ReflectionTestUtils.invokeMethod(tokenRevocationService, "init");
+        ReflectionTestUtils.setField(tokenRevocationService, "synchronizedOnce", true);
+
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(new StringRedisTemplate(), redisMessageListenerContainer);
+        ReflectionTestUtils.setField(jwtKeyManager, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtKeyManager, "algorithm", algorithm);
+        ReflectionTestUtils.setField(jwtKeyManager, "refreshTokenValid", REFRESH_TOKEN_VALID);
+        ReflectionTestUtils.invokeMethod(jwtKeyManager, "init");
+
+        jwtTokenProvider = new JwtTokenProvider(username -> userDetails,
+                new RefreshTokenStore(new StringRedisTemplate(), 0L), tokenRevocationService,
+                new TokenVersionService(tokenStore, new StringRedisTemplate(), redisMessageListenerContainer, 10000L, 10000L),
+                jwtKeyManager,
+                new VerifiedTokenCache(verifiedCacheSize));
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenValid", ACCESS_TOKEN_VALID);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenValid", REFRESH_TOKEN_VALID);
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", statelessPrincipal);
+        jwtTokenProvider.init();
+
+        try {
+            errorResponseWriter = new ErrorResponseWriter(new ObjectMapper());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public JwtTokenProvider getJwtTokenProvider() {
+        return jwtTokenProvider;
+    }
+
+    public ErrorResponseWriter getErrorResponseWriter() {
+        return errorResponseWriter;
+    }
+
+    public String issueAccessToken() {
+        return jwtTokenProvider.createToken(EMAIL, ACCESS_TOKEN_VALID, ROLE);
+    }
+
+    public String issueExpiredAccessToken() {
+        return jwtTokenProvider.createToken(EMAIL, -ACCESS_TOKEN_VALID, ROLE);
+    }
+
+    /**
+     * 다른 서버에서 로그아웃 메시지를 받은 것처럼 로컬 캐시에 반영
+     */
+    public void revoke(String token) {
+        ParsedToken parsedToken = jwtTokenProvider.parseToken(token);
+        String body = parsedToken.getTokenId() + " " + parsedToken.getExpiration().getTime();
+
+        tokenRevocationService.onMessage(new DefaultMessage(
+                TokenRevocationService.LOGOUT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+}
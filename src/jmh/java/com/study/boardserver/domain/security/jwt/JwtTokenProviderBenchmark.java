@@ -0,0 +1,86 @@
+package com.study.boardserver.domain.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * token 발급 / 검증 / header 추출 처리량 측정
+ *
+ * legacy* 는 요청마다 parser 를 만들고 Base64 key 를 다시 해석하던 이전 방식
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String EMAIL = JwtBenchmarkFixture.EMAIL;
+    private static final String ROLE = JwtBenchmarkFixture.ROLE;
+    private static final long VALID = JwtBenchmarkFixture.ACCESS_TOKEN_VALID;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private String encodedSecret;
+
+    private String token;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtBenchmarkFixture(SignatureAlgorithm.HS256, false, 0).getJwtTokenProvider();
+
+        encodedSecret = Base64.getEncoder().encodeToString(JwtBenchmarkFixture.SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtTokenProvider.createToken(EMAIL, VALID, ROLE);
+
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken(EMAIL, VALID, ROLE);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return jwtTokenProvider.extractClaims(token);
+    }
+
+    @Benchmark
+    public String resolveToken() {
+        return jwtTokenProvider.resolveToken(request);
+    }
+
+    @Benchmark
+    public String legacyCreateToken() {
+        Claims claims = Jwts.claims().setSubject("token");
+        claims.put(JwtTokenProvider.EMAIL_CLAIM, EMAIL);
+        claims.put(JwtTokenProvider.ROLE_CLAIM, ROLE);
+
+        Date now = new Date();
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALID))
+                .signWith(SignatureAlgorithm.HS256, encodedSecret)
+                .compact();
+    }
+
+    @Benchmark
+    public Claims legacyExtractClaims() {
+        return Jwts.parser()
+                .setSigningKey(encodedSecret)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,38 @@
+package com.study.boardserver.global.redis;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * benchmark 용 TokenStore 대체 (map 저장, 만료 무시)
+ */
+public class InMemoryTokenStore implements TokenStore {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(TokenType type, String id, String value, long expiration) {
+        store.put(type.key(id), value);
+    }
+
+    @Override
+    public Optional<String> find(TokenType type, String id) {
+        return Optional.ofNullable(store.get(type.key(id)));
+    }
+
+    @Override
+    public boolean exists(TokenType type, String id) {
+        return store.containsKey(type.key(id));
+    }
+
+    @Override
+    public void delete(TokenType type, String id) {
+        store.remove(type.key(id));
+    }
+
+    @Override
+    public Optional<String> findAndDelete(TokenType type, String id) {
+        return Optional.ofNullable(store.remove(type.key(id)));
+    }
+}
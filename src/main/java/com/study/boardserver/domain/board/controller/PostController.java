@@ -68,4 +68,21 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{postId}")
+    @Operation(summary = "게시판 글 상세 조회")
+    public ResponseEntity<PostDetailResponse> getPost(@PathVariable Long postId) {
+
+        PostDetailResponse response = postService.getPost(postId);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    @Operation(summary = "게시판 글 목록 조회")
+    public ResponseEntity<PostListResponse> getPosts(@RequestParam(required = false) String cursor,
+                                                     @RequestParam(defaultValue = "20") int size) {
+
+        PostListResponse response = postService.getPosts(cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.study.boardserver.domain.board.dto.comment;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.study.boardserver.domain.board.entity.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentResponse {
+
+    private Long commentId;
+
+    private String content;
+
+    private String nickname;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    public static CommentResponse fromEntity(Comment comment) {
+        return CommentResponse.builder()
+                .commentId(comment.getId())
+                .content(comment.getContent())
+                .nickname(comment.getMember().getNickname())
+                .createdAt(comment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.study.boardserver.domain.board.dto.post;
+
+import com.study.boardserver.global.error.exception.BoardException;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 게시물 목록 cursor (마지막으로 받은 게시물의 작성 시간, id)
+ *
+ * 형식 : base64url("작성 시간(ISO-8601),게시물 id")
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final char DELIMITER = ',';
+
+    private final LocalDateTime createdAt;
+
+    private final Long postId;
+
+    public static String encode(PostSummaryResponse post) {
+        String value = post.getCreatedAt().toString() + DELIMITER + post.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = value.indexOf(DELIMITER);
+
+            return new PostCursor(LocalDateTime.parse(value.substring(0, index)),
+                    Long.parseLong(value.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BoardException(BoardErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.study.boardserver.domain.board.dto.post;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.study.boardserver.domain.board.dto.comment.CommentResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDetailResponse {
+
+    private Long postId;
+
+    private String title;
+
+    private String content;
+
+    private String nickname;
+
+    private List<PostImageUrlResponse> imageUrls;
+
+    private Long heartCnt;
+
+    /**
+     * 댓글 첫 페이지 (작성 순)
+     */
+    private List<CommentResponse> comments;
+
+    private boolean hasNextComments;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.study.boardserver.domain.board.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostListResponse {
+
+    private List<PostSummaryResponse> posts;
+
+    /**
+     * 다음 페이지 요청 시 전달할 cursor (마지막 페이지면 null)
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+}
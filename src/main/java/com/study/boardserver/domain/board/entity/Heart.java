@@ -11,6 +11,7 @@ import javax.persistence.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_heart_post_member", columnNames = {"post_id", "member_id"}))
 public class Heart extends BaseTimeEntity {
 
     @Id
@@ -22,6 +23,6 @@ public class Heart extends BaseTimeEntity {
     private Member member;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "post_id", updatable = false)
+    @JoinColumn(name = "post_id", updatable = false, foreignKey = @ForeignKey(name = "fk_heart_post"))
     private Post post;
 }
@@ -3,6 +3,7 @@ package com.study.boardserver.domain.board.entity;
 import com.study.boardserver.domain.member.entity.Member;
 import com.study.boardserver.global.entity.BaseTimeEntity;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -13,6 +14,7 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_post_created_at", columnList = "createdAt, post_id"))
 public class Post extends BaseTimeEntity {
 
     @Id
@@ -30,6 +32,13 @@ public class Post extends BaseTimeEntity {
     @JoinColumn(name = "member_id", updatable = false)
     private Member member;
 
+    /**
+     * 좋아요 수 (PostRepository 의 update query 로만 변경)
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long heartCount;
+
     @Builder.Default
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<PostImage> postImages = new ArrayList<>();
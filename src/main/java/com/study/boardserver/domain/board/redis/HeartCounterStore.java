@@ -0,0 +1,263 @@
+package com.study.boardserver.domain.board.redis;
+
+import com.study.boardserver.global.redis.RedisLock;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 좋아요 write-behind 저장소
+ *
+ * heartCount:{postId} : 게시물 좋아요 수 (DB 에서 불러온 적이 있는지 여부로도 사용)
+ * heartMembers:{postId} : 좋아요를 누른 회원 id (set, 중복 확인용)
+ * heartPending : DB 에 반영할 변경 (hash, {postId}:{memberId} -> 1 등록 / 0 취소, 같은 회원의 반복 변경은 마지막 값만 남음)
+ * heartPending:queue : heartPending field 의 추가 순서 (list, 정해진 개수씩 반영하는 데 사용)
+ * heartPending:processing : 반영 중인 변경 (DB commit 후 삭제, 남아 있으면 다음 반영 때 다시 처리)
+ * heartPending:post:{postId} : 반영되지 않은 변경이 있는 회원 id (set, 다시 불러올 때 DB 값 위에 덮어씀)
+ * heartPending:version:{postId} : 게시물 변경의 반영 완료 횟수 (DB 조회 후 불러오기 전에 반영이 끝났는지 확인)
+ *
+ * script 가 사용하는 key 는 모두 KEYS 로 전달한다. (script 안에서 key 를 만들지 않음)
+ */
+@Component
+public class HeartCounterStore {
+
+    private static final String COUNT_PREFIX = "heartCount:";
+    private static final String MEMBERS_PREFIX = "heartMembers:";
+    private static final String PENDING_KEY = "heartPending";
+    private static final String QUEUE_KEY = "heartPending:queue";
+    private static final String PROCESSING_KEY = "heartPending:processing";
+    private static final String PENDING_POST_PREFIX = "heartPending:post:";
+    private static final String VERSION_PREFIX = "heartPending:version:";
+    private static final String LOCK_KEY = "heartPending:lock";
+    private static final String PUSHED = "1";
+    private static final String DELETED = "0";
+
+    /**
+     * DB 의 좋아요 회원 목록에 반영되지 않은 변경을 덮어써서 초기화 (이미 불러온 경우 0)
+     * 같은 회원의 변경이 heartPending 과 processing 에 모두 있으면 heartPending 이 최신
+     * DB 조회 이후 반영이 끝났으면 (반영 완료 횟수가 ARGV[3] 과 다르면) DB 값이 오래되었으므로 불러오지 않음 (-1)
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "if (redis.call('GET', KEYS[6]) or '0') ~= ARGV[3] then return -1 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "for i = 4, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end " +
+            "for _, memberId in ipairs(redis.call('SMEMBERS', KEYS[5])) do " +
+            "  local field = ARGV[2] .. ':' .. memberId " +
+            "  local value = redis.call('HGET', KEYS[3], field) or redis.call('HGET', KEYS[4], field) " +
+            "  if value == '1' then redis.call('SADD', KEYS[2], memberId) " +
+            "  elseif value == '0' then redis.call('SREM', KEYS[2], memberId) end " +
+            "end " +
+            "redis.call('SET', KEYS[1], redis.call('SCARD', KEYS[2]), 'PX', ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /**
+     * 좋아요 등록 / 취소 : 불러오지 않은 게시물 (-1), 변경 없음 (0), 변경 (1)
+     */
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local changed " +
+            "if ARGV[3] == '1' then changed = redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "else changed = redis.call('SREM', KEYS[2], ARGV[1]) end " +
+            "if changed == 0 then return 0 end " +
+            "if ARGV[3] == '1' then redis.call('INCR', KEYS[1]) else redis.call('DECR', KEYS[1]) end " +
+            "if redis.call('HSET', KEYS[3], ARGV[2], ARGV[3]) == 1 then redis.call('RPUSH', KEYS[4], ARGV[2]) end " +
+            "redis.call('SADD', KEYS[5], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "return 1", Long.class);
+
+    /**
+     * lock 을 가진 경우에만 반영할 변경을 최대 ARGV[2] 개 processing 으로 이동하고 lock 연장
+     * 이전에 실패한 processing 이 있으면 그것을 먼저 처리, processing 의 변경 수 반환 (lock 이 없으면 -1)
+     */
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[4]) ~= ARGV[1] then return -1 end " +
+            "redis.call('PEXPIRE', KEYS[4], ARGV[3]) " +
+            "if redis.call('EXISTS', KEYS[3]) == 1 then return redis.call('HLEN', KEYS[3]) end " +
+            "local fields = redis.call('LRANGE', KEYS[2], 0, tonumber(ARGV[2]) - 1) " +
+            "for _, field in ipairs(fields) do " +
+            "  local value = redis.call('HGET', KEYS[1], field) " +
+            "  if value then " +
+            "    redis.call('HSET', KEYS[3], field, value) " +
+            "    redis.call('HDEL', KEYS[1], field) " +
+            "  end " +
+            "end " +
+            "redis.call('LTRIM', KEYS[2], #fields, -1) " +
+            "return redis.call('HLEN', KEYS[3])", Long.class);
+
+    /**
+     * lock 을 가진 경우에만 processing 삭제 후 lock 연장 (lock 이 없으면 0)
+     * ARGV[3 + i] 게시물의 반영 완료 횟수(KEYS[3 + 2i]) 증가, 다시 변경되지 않은 회원은 반영 대기 목록(KEYS[2 + 2i])에서 제거
+     */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[3]) ~= ARGV[1] then return 0 end " +
+            "local indexes = {} " +
+            "for i = 4, #ARGV do " +
+            "  local j = i - 3 " +
+            "  indexes[ARGV[i]] = KEYS[2 * j + 2] " +
+            "  redis.call('INCR', KEYS[2 * j + 3]) " +
+            "  redis.call('PEXPIRE', KEYS[2 * j + 3], ARGV[3]) " +
+            "end " +
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  if redis.call('HEXISTS', KEYS[2], field) == 0 then " +
+            "    local index = string.find(field, ':', 1, true) " +
+            "    local key = indexes[string.sub(field, 1, index - 1)] " +
+            "    if key then redis.call('SREM', key, string.sub(field, index + 1)) end " +
+            "  end " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('PEXPIRE', KEYS[3], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisLock redisLock;
+    private final long expiration;
+
+    public HeartCounterStore(StringRedisTemplate stringRedisTemplate, RedisLock redisLock,
+                             @Value("${board.heart.write-behind.expiration:86400000}") long expiration) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisLock = redisLock;
+        this.expiration = expiration;
+    }
+
+    public enum ToggleResult {
+        CHANGED, UNCHANGED, NOT_LOADED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PendingHeart {
+
+        private final Long postId;
+
+        private final Long memberId;
+
+        /**
+         * true : 등록, false : 취소
+         */
+        private final boolean pushed;
+    }
+
+    public Optional<Long> getCount(Long postId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(COUNT_PREFIX + postId))
+                .map(Long::parseLong);
+    }
+
+    /**
+     * 게시물 변경의 반영 완료 횟수 (DB 에서 좋아요 회원 목록을 조회하기 전에 읽어 load 에 전달)
+     */
+    public long getLoadVersion(Long postId) {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_PREFIX + postId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    /**
+     * DB 조회 이후 반영이 끝나 DB 값이 오래된 경우 false (다시 조회 후 호출)
+     */
+    public boolean load(Long postId, Collection<Long> memberIds, long version) {
+        List<String> keys = new ArrayList<>(keys(postId));
+        keys.addAll(Arrays.asList(PENDING_KEY, PROCESSING_KEY, PENDING_POST_PREFIX + postId, VERSION_PREFIX + postId));
+
+        List<String> args = new ArrayList<>(memberIds.size() + 3);
+        args.add(String.valueOf(expiration));
+        args.add(String.valueOf(postId));
+        args.add(String.valueOf(version));
+        memberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        Long result = stringRedisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+        return result == null || result >= 0;
+    }
+
+    public ToggleResult push(Long postId, Long memberId) {
+        return toggle(postId, memberId, PUSHED);
+    }
+
+    public ToggleResult delete(Long postId, Long memberId) {
+        return toggle(postId, memberId, DELETED);
+    }
+
+    /**
+     * 여러 서버 중 한 곳에서만 반영
+     */
+    public boolean tryLock(String owner, long timeout) {
+        return redisLock.tryLock(LOCK_KEY, owner, timeout);
+    }
+
+    /**
+     * DB 에 반영할 변경 목록 (최대 limit 개, 반영 후 completePending 호출)
+     * lock 을 잃은 경우 빈 목록
+     */
+    public List<PendingHeart> claimPending(String owner, int limit, long timeout) {
+        Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+                Arrays.asList(PENDING_KEY, QUEUE_KEY, PROCESSING_KEY, LOCK_KEY),
+                owner, String.valueOf(limit), String.valueOf(timeout));
+
+        if (claimed == null || claimed <= 0) {
+            return Collections.emptyList();
+        }
+
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(PROCESSING_KEY);
+        List<PendingHeart> pending = new ArrayList<>(entries.size());
+
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            String field = (String) entry.getKey();
+            int index = field.indexOf(':');
+
+            pending.add(new PendingHeart(Long.valueOf(field.substring(0, index)),
+                    Long.valueOf(field.substring(index + 1)), PUSHED.equals(entry.getValue())));
+        }
+        return pending;
+    }
+
+    /**
+     * claimPending 으로 가져온 변경의 반영 완료 처리, lock 을 잃은 경우 false (processing 은 lock 을 가진 서버가 다시 반영)
+     */
+    public boolean completePending(String owner, Collection<PendingHeart> completed, long timeout) {
+        List<String> keys = new ArrayList<>(Arrays.asList(PROCESSING_KEY, PENDING_KEY, LOCK_KEY));
+        List<String> args = new ArrayList<>(Arrays.asList(owner, String.valueOf(timeout), String.valueOf(expiration)));
+
+        completed.stream().map(PendingHeart::getPostId).distinct().forEach(postId -> {
+            keys.add(PENDING_POST_PREFIX + postId);
+            keys.add(VERSION_PREFIX + postId);
+            args.add(String.valueOf(postId));
+        });
+
+        Long result = stringRedisTemplate.execute(COMPLETE_SCRIPT, keys, args.toArray());
+        return result != null && result > 0;
+    }
+
+    public void unlock(String owner) {
+        redisLock.unlock(LOCK_KEY, owner);
+    }
+
+    private ToggleResult toggle(Long postId, Long memberId, String value) {
+        List<String> keys = new ArrayList<>(keys(postId));
+        keys.addAll(Arrays.asList(PENDING_KEY, QUEUE_KEY, PENDING_POST_PREFIX + postId));
+
+        Long result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys,
+                String.valueOf(memberId), postId + ":" + memberId, value, String.valueOf(expiration));
+
+        if (result == null || result < 0) {
+            return ToggleResult.NOT_LOADED;
+        }
+        return result > 0 ? ToggleResult.CHANGED : ToggleResult.UNCHANGED;
+    }
+
+    private static List<String> keys(Long postId) {
+        return Arrays.asList(COUNT_PREFIX + postId, MEMBERS_PREFIX + postId);
+    }
+}
@@ -1,7 +1,18 @@
 package com.study.boardserver.domain.board.repository;
 
 import com.study.boardserver.domain.board.entity.Comment;
+import com.study.boardserver.domain.board.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    /**
+     * 게시물 댓글 목록 (작성자 함께 조회, count query 없음)
+     */
+    @EntityGraph(attributePaths = "member")
+    List<Comment> findByPostOrderByIdAsc(Post post, Pageable pageable);
 }
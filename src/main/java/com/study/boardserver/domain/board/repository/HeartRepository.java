@@ -1,17 +1,28 @@
 package com.study.boardserver.domain.board.repository;
 
 import com.study.boardserver.domain.board.entity.Heart;
-import com.study.boardserver.domain.board.entity.Post;
-import com.study.boardserver.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface HeartRepository extends JpaRepository<Heart, Long> {
+public interface HeartRepository extends JpaRepository<Heart, Long>, HeartRepositoryCustom {
 
-    boolean existsByPostAndMember(Post post, Member member);
+    @Query("select h.member.id from Heart h where h.post.id = :postId")
+    List<Long> findMemberIdsByPostId(@Param("postId") Long postId);
 
-    Optional<Heart> findByPostAndMember(Post post, Member member);
+    @Query("select h.member.id from Heart h where h.post.id = :postId and h.member.id in :memberIds")
+    List<Long> findMemberIdsByPostIdAndMemberIdIn(@Param("postId") Long postId,
+                                                  @Param("memberIds") Collection<Long> memberIds);
 
-    Long countByPost(Post post);
+    @Modifying
+    @Query("delete from Heart h where h.post.id = :postId and h.member.id = :memberId")
+    int deleteByPostIdAndMemberId(@Param("postId") Long postId, @Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from Heart h where h.post.id = :postId and h.member.id in :memberIds")
+    int deleteByPostIdAndMemberIdIn(@Param("postId") Long postId, @Param("memberIds") Collection<Long> memberIds);
 }
@@ -0,0 +1,11 @@
+package com.study.boardserver.domain.board.repository;
+
+import java.util.Collection;
+
+public interface HeartRepositoryCustom {
+
+    /**
+     * 한 게시물의 좋아요를 JDBC batch 로 저장 (IDENTITY 전략이라 JPA 로는 batch insert 불가)
+     */
+    void insertAll(Long postId, Collection<Long> memberIds);
+}
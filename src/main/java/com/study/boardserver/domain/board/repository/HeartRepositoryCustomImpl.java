@@ -0,0 +1,32 @@
+package com.study.boardserver.domain.board.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@RequiredArgsConstructor
+public class HeartRepositoryCustomImpl implements HeartRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "insert into heart (post_id, member_id, created_at, updated_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long postId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, memberIds, memberIds.size(), (ps, memberId) -> {
+            ps.setLong(1, postId);
+            ps.setLong(2, memberId);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
@@ -1,7 +1,76 @@
 package com.study.boardserver.domain.board.repository;
 
+import com.study.boardserver.domain.board.dto.post.PostSummaryResponse;
 import com.study.boardserver.domain.board.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
+
+    /**
+     * 게시물 상세 조회 (작성자, 이미지 함께 조회)
+     */
+    @EntityGraph(attributePaths = {"member", "postImages"})
+    @Query("select p from Post p where p.id = :postId")
+    Optional<Post> findDetailById(@Param("postId") Long postId);
+
+    /**
+     * 최신 게시물 목록 첫 페이지
+     */
+    @Query("select new com.study.boardserver.domain.board.dto.post.PostSummaryResponse(p.id, p.title, m.nickname, p.createdAt) " +
+            "from Post p left join p.member m " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findPostSummaries(Pageable pageable);
+
+    /**
+     * cursor (작성 시간, id) 이후 게시물 목록 (offset 없이 index 범위 조회)
+     */
+    @Query("select new com.study.boardserver.domain.board.dto.post.PostSummaryResponse(p.id, p.title, m.nickname, p.createdAt) " +
+            "from Post p left join p.member m " +
+            "where p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :postId) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostSummaryResponse> findPostSummariesBefore(@Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("postId") Long postId,
+                                                      Pageable pageable);
+
+    /**
+     * 게시물 작성자 id 조회 (member join 없이 FK 만 조회)
+     */
+    @Query("select p.member.id from Post p where p.id = :postId")
+    Optional<Long> findWriterIdById(@Param("postId") Long postId);
+
+    @Query("select p.heartCount from Post p where p.id = :postId")
+    Optional<Long> findHeartCountById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.heartCount = p.heartCount + 1 where p.id = :postId")
+    int incrementHeartCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.heartCount = p.heartCount - 1 where p.id = :postId and p.heartCount > 0")
+    int decrementHeartCount(@Param("postId") Long postId);
+
+    @Query("select p.id from Post p where p.id in :postIds")
+    List<Long> findExistingIds(@Param("postIds") Collection<Long> postIds);
+
+    @Query("select coalesce(max(p.id), 0) from Post p")
+    long findMaxId();
+
+    /**
+     * id 범위 내에서 실제 좋아요 수와 다른 heartCount 보정
+     */
+    @Modifying
+    @Query("update Post p set p.heartCount = (select count(h) from Heart h where h.post = p) " +
+            "where p.id between :fromId and :toId " +
+            "and p.heartCount <> (select count(h) from Heart h where h.post = p)")
+    int reconcileHeartCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
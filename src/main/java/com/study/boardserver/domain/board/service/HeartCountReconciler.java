@@ -0,0 +1,80 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.global.redis.RedisLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * 게시물 heartCount 보정
+ *
+ * heart 테이블의 실제 좋아요 수와 다른 게시물만 갱신한다.
+ * 한 번에 잠그는 행을 줄이기 위해 게시물 id 범위(batch-size) 단위로 나누어 각각 commit 한다.
+ * 여러 서버 중 redis lock 을 획득한 한 곳에서만 실행한다. (lock 은 batch 마다 연장)
+ */
+@Slf4j
+@Component
+public class HeartCountReconciler {
+
+    private static final String LOCK_KEY = "heartCountReconcile:lock";
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLock redisLock;
+    private final int batchSize;
+    private final long lockTimeout;
+
+    public HeartCountReconciler(PostRepository postRepository, TransactionTemplate transactionTemplate, RedisLock redisLock,
+                                @Value("${board.heart-count.reconcile-batch-size:1000}") int batchSize,
+                                @Value("${board.heart-count.reconcile-lock-timeout:600000}") long lockTimeout) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.redisLock = redisLock;
+        this.batchSize = batchSize;
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * 보정한 게시물 수 반환 (다른 서버가 실행 중이면 0)
+     */
+    @Scheduled(cron = "${board.heart-count.reconcile-cron:0 0 4 * * *}")
+    public int reconcile() {
+        String owner = UUID.randomUUID().toString();
+        if (!redisLock.tryLock(LOCK_KEY, owner, lockTimeout)) {
+            return 0;
+        }
+
+        try {
+            return reconcileAll(owner);
+        } finally {
+            redisLock.unlock(LOCK_KEY, owner);
+        }
+    }
+
+    private int reconcileAll(String owner) {
+        long maxId = postRepository.findMaxId();
+        int repaired = 0;
+
+        for (long id = 1; id <= maxId; id += batchSize) {
+            if (!redisLock.extend(LOCK_KEY, owner, lockTimeout)) {
+                log.warn("Lost heart count reconcile lock at post id {}", id);
+                break;
+            }
+
+            long fromId = id;
+            long toId = id + batchSize - 1;
+            Integer count = transactionTemplate.execute(status -> postRepository.reconcileHeartCount(fromId, toId));
+            repaired += count == null ? 0 : count;
+        }
+
+        if (repaired > 0) {
+            log.warn("Reconciled heart count of {} posts", repaired);
+        }
+        return repaired;
+    }
+}
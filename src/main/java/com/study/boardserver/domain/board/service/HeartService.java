@@ -1,6 +1,7 @@
 package com.study.boardserver.domain.board.service;
 
 import com.study.boardserver.domain.board.dto.heart.HeartCountGetResponse;
+import com.study.boardserver.domain.board.entity.Post;
 import com.study.boardserver.domain.member.entity.Member;
 
 import java.util.Map;
@@ -21,4 +22,9 @@ public interface HeartService {
      * 좋아요 개수 조회
      */
     HeartCountGetResponse getHeartCountByPost(Long postId);
+
+    /**
+     * 이미 조회한 게시물의 좋아요 개수 (게시물 상세 조회용)
+     */
+    long getHeartCount(Post post);
 }
@@ -9,7 +9,12 @@ import com.study.boardserver.domain.member.entity.Member;
 import com.study.boardserver.global.error.exception.BoardException;
 import com.study.boardserver.global.error.type.BoardErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -17,45 +22,58 @@ import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.heart.write-behind", name = "enabled", havingValue = "false", matchIfMissing = true)
 public class HeartServiceImpl implements HeartService {
 
+    private static final String HEART_UNIQUE_CONSTRAINT = "uk_heart_post_member";
+    private static final String POST_FOREIGN_KEY = "fk_heart_post";
+
     private final PostRepository postRepository;
     private final HeartRepository heartRepository;
 
+    /**
+     * 작성자 id 조회 -> insert -> 좋아요 수 증가
+     * 중복 여부는 (post_id, member_id) unique 제약으로 확인, 조회 후 삭제된 게시물은 post_id 외래 키 제약으로 확인
+     */
     @Override
+    @Transactional
     public Map<String, String> pushHeart(Member member, Long postId) {
 
-        Post post = postRepository.findById(postId)
+        Long writerId = postRepository.findWriterIdById(postId)
                 .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
-        if(heartRepository.existsByPostAndMember(post, member)) {
-            throw new BoardException(BoardErrorCode.ALREADY_PUSH_HEART);
-        }
-
-        if(Objects.equals(member.getEmail(), post.getMember().getEmail())) {
+        if(Objects.equals(member.getId(), writerId)) {
             throw new BoardException(BoardErrorCode.CANNOT_PUSH_HEART);
         }
 
         Heart heart = Heart.builder()
-                .post(post)
+                .post(postRepository.getReferenceById(postId))
                 .member(member)
                 .build();
 
-        heartRepository.save(heart);
+        try {
+            heartRepository.saveAndFlush(heart);
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+
+        postRepository.incrementHeartCount(postId);
 
         return getMessage("좋아요 등록");
     }
 
     @Override
+    @Transactional
     public Map<String, String> deleteHeart(Member member, Long postId) {
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
-
-        Heart heart = heartRepository.findByPostAndMember(post, member)
-                .orElseThrow(() -> new BoardException(BoardErrorCode.HEART_NOT_FOUND));
+        if(heartRepository.deleteByPostIdAndMemberId(postId, member.getId()) == 0) {
+            if(!postRepository.existsById(postId)) {
+                throw new BoardException(BoardErrorCode.POST_NOT_FOUND);
+            }
+            throw new BoardException(BoardErrorCode.HEART_NOT_FOUND);
+        }
 
-        heartRepository.delete(heart);
+        postRepository.decrementHeartCount(postId);
 
         return getMessage("좋아요 취소");
     }
@@ -63,15 +81,44 @@ public class HeartServiceImpl implements HeartService {
     @Override
     public HeartCountGetResponse getHeartCountByPost(Long postId) {
 
-        Post post = postRepository.findById(postId)
+        Long heartCount = postRepository.findHeartCountById(postId)
                 .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
         return HeartCountGetResponse.builder()
                 .postId(postId)
-                .heartCnt(heartRepository.countByPost(post))
+                .heartCnt(heartCount)
                 .build();
     }
 
+    @Override
+    public long getHeartCount(Post post) {
+        return post.getHeartCount();
+    }
+
+    /**
+     * 위반한 제약 이름으로 구분, 그 외 제약 위반은 그대로 던짐
+     */
+    private static RuntimeException translate(DataIntegrityViolationException e) {
+        String constraintName = getConstraintName(e);
+
+        if (StringUtils.containsIgnoreCase(constraintName, HEART_UNIQUE_CONSTRAINT)) {
+            return new BoardException(BoardErrorCode.ALREADY_PUSH_HEART);
+        }
+        if (StringUtils.containsIgnoreCase(constraintName, POST_FOREIGN_KEY)) {
+            return new BoardException(BoardErrorCode.POST_NOT_FOUND);
+        }
+        return e;
+    }
+
+    private static String getConstraintName(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException) {
+                return ((ConstraintViolationException) cause).getConstraintName();
+            }
+        }
+        return null;
+    }
+
     private static Map<String, String> getMessage(String message) {
         Map<String, String> result = new HashMap<>();
         result.put("message", message);
@@ -0,0 +1,128 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.redis.HeartCounterStore;
+import com.study.boardserver.domain.board.redis.HeartCounterStore.PendingHeart;
+import com.study.boardserver.domain.board.repository.HeartRepository;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * redis 에 기록된 좋아요 변경을 DB 에 반영
+ *
+ * 변경은 batchSize 개씩 transaction 으로 반영하고 commit 후에 redis 에서 삭제한다. (lock 은 batch 마다 연장)
+ * 반영 도중 실패하거나 서버가 종료되면 다음 실행 때 같은 변경을 다시 반영한다. (등록은 없을 때만 insert, 취소는 delete 이므로 다시 반영해도 같은 결과)
+ * 변경된 게시물의 heartCount 는 heart 테이블 기준으로 다시 계산한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "board.heart.write-behind", name = "enabled", havingValue = "true")
+public class HeartWriteBehindFlusher {
+
+    private final HeartCounterStore heartCounterStore;
+    private final PostRepository postRepository;
+    private final MemberRepository memberRepository;
+    private final HeartRepository heartRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long lockTimeout;
+    private final int batchSize;
+
+    public HeartWriteBehindFlusher(HeartCounterStore heartCounterStore, PostRepository postRepository,
+                                   MemberRepository memberRepository, HeartRepository heartRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Value("${board.heart.write-behind.lock-timeout:60000}") long lockTimeout,
+                                   @Value("${board.heart.write-behind.batch-size:500}") int batchSize) {
+        this.heartCounterStore = heartCounterStore;
+        this.postRepository = postRepository;
+        this.memberRepository = memberRepository;
+        this.heartRepository = heartRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.lockTimeout = lockTimeout;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${board.heart.write-behind.flush-interval:5000}")
+    public void scheduledFlush() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Fail to flush hearts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 반영한 변경 수 반환
+     */
+    public int flush() {
+        String owner = UUID.randomUUID().toString();
+        if (!heartCounterStore.tryLock(owner, lockTimeout)) {
+            return 0;
+        }
+
+        try {
+            int flushed = 0;
+            List<PendingHeart> pending;
+
+            do {
+                pending = heartCounterStore.claimPending(owner, batchSize, lockTimeout);
+                if (pending.isEmpty()) {
+                    break;
+                }
+
+                List<PendingHeart> batch = pending;
+                transactionTemplate.executeWithoutResult(status -> apply(batch));
+
+                // lock 을 잃었으면 processing 은 lock 을 가진 서버가 다시 반영
+                if (!heartCounterStore.completePending(owner, pending, lockTimeout)) {
+                    log.warn("Lost heart flush lock after {} hearts", flushed + pending.size());
+                    break;
+                }
+                flushed += pending.size();
+            } while (pending.size() >= batchSize);
+
+            return flushed;
+        } finally {
+            heartCounterStore.unlock(owner);
+        }
+    }
+
+    private void apply(List<PendingHeart> pending) {
+        Set<Long> postIds = new HashSet<>(postRepository.findExistingIds(
+                pending.stream().map(PendingHeart::getPostId).collect(Collectors.toSet())));
+        Set<Long> memberIds = new HashSet<>(memberRepository.findExistingIds(
+                pending.stream().map(PendingHeart::getMemberId).collect(Collectors.toSet())));
+
+        // 그 사이 삭제된 게시물 / 회원은 건너뜀
+        Map<Long, Map<Boolean, List<Long>>> changes = pending.stream()
+                .filter(heart -> postIds.contains(heart.getPostId()) && memberIds.contains(heart.getMemberId()))
+                .collect(Collectors.groupingBy(PendingHeart::getPostId, Collectors.partitioningBy(PendingHeart::isPushed,
+                        Collectors.mapping(PendingHeart::getMemberId, Collectors.toList()))));
+
+        changes.forEach((postId, change) -> {
+            List<Long> deleted = change.get(false);
+            if (!deleted.isEmpty()) {
+                heartRepository.deleteByPostIdAndMemberIdIn(postId, deleted);
+            }
+
+            List<Long> pushed = change.get(true);
+            if (!pushed.isEmpty()) {
+                pushed.removeAll(heartRepository.findMemberIdsByPostIdAndMemberIdIn(postId, pushed));
+                heartRepository.insertAll(postId, pushed);
+            }
+
+            postRepository.reconcileHeartCount(postId, postId);
+        });
+    }
+}
@@ -33,4 +33,14 @@ public interface PostService {
      * 수정
      */
     PostUpdateResponse updatePost(Member member, Long postId, PostUpdateRequest request);
+
+    /**
+     * 상세 조회
+     */
+    PostDetailResponse getPost(Long postId);
+
+    /**
+     * 목록 조회 (cursor 기반 페이지)
+     */
+    PostListResponse getPosts(String cursor, int size);
 }
@@ -1,9 +1,12 @@
 package com.study.boardserver.domain.board.service;
 
 import com.study.boardserver.domain.awss3.service.AwsS3Service;
+import com.study.boardserver.domain.board.dto.comment.CommentResponse;
 import com.study.boardserver.domain.board.dto.post.*;
+import com.study.boardserver.domain.board.entity.Comment;
 import com.study.boardserver.domain.board.entity.Post;
 import com.study.boardserver.domain.board.entity.PostImage;
+import com.study.boardserver.domain.board.repository.CommentRepository;
 import com.study.boardserver.domain.board.repository.PostImageRepository;
 import com.study.boardserver.domain.board.repository.PostRepository;
 import com.study.boardserver.domain.member.entity.Member;
@@ -12,6 +15,8 @@ import com.study.boardserver.global.error.exception.BoardException;
 import com.study.boardserver.global.error.type.BoardErrorCode;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,10 +29,14 @@ import java.util.stream.Collectors;
 public class PostServiceImpl implements PostService {
 
     private static final String DIR = "post";
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int COMMENT_PAGE_SIZE = 20;
 
     private final AwsS3Service awsS3Service;
     private final PostRepository postRepository;
     private final PostImageRepository postImageRepository;
+    private final CommentRepository commentRepository;
+    private final HeartService heartService;
 
     @Override
     public PostWriteResponse writePost(Member member, PostWriteRequest request, List<MultipartFile> files) {
@@ -163,6 +172,66 @@ public class PostServiceImpl implements PostService {
                 .build();
     }
 
+    /**
+     * 게시물 + 작성자 + 이미지 / 댓글 첫 페이지 + 작성자 (DB query 2번)
+     * 좋아요 개수는 write-behind 사용 시 redis 에서 조회 (불러오지 않은 게시물은 DB 값)
+     */
+    @Override
+    public PostDetailResponse getPost(Long postId) {
+
+        Post post = postRepository.findDetailById(postId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+
+        List<Comment> comments = commentRepository.findByPostOrderByIdAsc(post, PageRequest.of(0, COMMENT_PAGE_SIZE + 1));
+
+        boolean hasNextComments = comments.size() > COMMENT_PAGE_SIZE;
+        if (hasNextComments) {
+            comments = comments.subList(0, COMMENT_PAGE_SIZE);
+        }
+
+        return PostDetailResponse.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .nickname(post.getMember().getNickname())
+                .imageUrls(post.getPostImages().stream()
+                        .map(PostImageUrlResponse :: fromEntity)
+                        .collect(Collectors.toList()))
+                .heartCnt(heartService.getHeartCount(post))
+                .comments(comments.stream()
+                        .map(CommentResponse :: fromEntity)
+                        .collect(Collectors.toList()))
+                .hasNextComments(hasNextComments)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public PostListResponse getPosts(String cursor, int size) {
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryResponse> posts;
+        if (Objects.isNull(cursor)) {
+            posts = postRepository.findPostSummaries(pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            posts = postRepository.findPostSummariesBefore(postCursor.getCreatedAt(), postCursor.getPostId(), pageable);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+
+        return PostListResponse.builder()
+                .posts(posts)
+                .nextCursor(hasNext ? PostCursor.encode(posts.get(pageSize - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
 
     private void removeImages (List<PostImage> images) {
         for(PostImage image : images) {
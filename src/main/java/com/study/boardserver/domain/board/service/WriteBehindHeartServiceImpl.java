@@ -0,0 +1,124 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.dto.heart.HeartCountGetResponse;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.board.redis.HeartCounterStore;
+import com.study.boardserver.domain.board.redis.HeartCounterStore.ToggleResult;
+import com.study.boardserver.domain.board.repository.HeartRepository;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.global.error.exception.BoardException;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 좋아요 등록 / 취소를 redis 에 기록하고 HeartWriteBehindFlusher 가 주기적으로 DB 에 반영
+ *
+ * 좋아요 수는 redis 에서 조회하며, redis 에 없는 게시물은 DB heartCount 를 사용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "board.heart.write-behind", name = "enabled", havingValue = "true")
+public class WriteBehindHeartServiceImpl implements HeartService {
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final PostRepository postRepository;
+    private final HeartRepository heartRepository;
+    private final HeartCounterStore heartCounterStore;
+
+    /**
+     * 작성자 id 만 조회 (게시물 / 작성자 entity 는 불러오지 않음)
+     */
+    @Override
+    public Map<String, String> pushHeart(Member member, Long postId) {
+
+        Long writerId = postRepository.findWriterIdById(postId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+
+        if(Objects.equals(member.getId(), writerId)) {
+            throw new BoardException(BoardErrorCode.CANNOT_PUSH_HEART);
+        }
+
+        ToggleResult result = heartCounterStore.push(postId, member.getId());
+        if (result == ToggleResult.NOT_LOADED) {
+            load(postId);
+            result = heartCounterStore.push(postId, member.getId());
+        }
+
+        if (result != ToggleResult.CHANGED) {
+            throw new BoardException(BoardErrorCode.ALREADY_PUSH_HEART);
+        }
+
+        return getMessage("좋아요 등록");
+    }
+
+    /**
+     * redis 에 불러온 게시물은 존재가 확인된 것이므로 불러오지 않은 경우에만 DB 에서 게시물 확인
+     */
+    @Override
+    public Map<String, String> deleteHeart(Member member, Long postId) {
+
+        ToggleResult result = heartCounterStore.delete(postId, member.getId());
+        if (result == ToggleResult.NOT_LOADED) {
+            if(!postRepository.existsById(postId)) {
+                throw new BoardException(BoardErrorCode.POST_NOT_FOUND);
+            }
+            load(postId);
+            result = heartCounterStore.delete(postId, member.getId());
+        }
+
+        if (result != ToggleResult.CHANGED) {
+            throw new BoardException(BoardErrorCode.HEART_NOT_FOUND);
+        }
+
+        return getMessage("좋아요 취소");
+    }
+
+    @Override
+    public HeartCountGetResponse getHeartCountByPost(Long postId) {
+
+        Long heartCount = heartCounterStore.getCount(postId)
+                .or(() -> postRepository.findHeartCountById(postId))
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+
+        return HeartCountGetResponse.builder()
+                .postId(postId)
+                .heartCnt(heartCount)
+                .build();
+    }
+
+    /**
+     * 반영되지 않은 변경이 있을 수 있으므로 redis 의 개수 우선 (불러오지 않은 게시물은 DB 값)
+     */
+    @Override
+    public long getHeartCount(Post post) {
+        return heartCounterStore.getCount(post.getId()).orElse(post.getHeartCount());
+    }
+
+    /**
+     * 게시물의 좋아요 회원 목록을 DB 에서 불러와 redis 에 저장 (게시물당 한 번)
+     * DB 조회 도중 반영이 끝나 조회 결과가 오래된 경우 다시 조회
+     */
+    private void load(Long postId) {
+        for (int attempt = 0; attempt < MAX_LOAD_ATTEMPTS; attempt++) {
+            long version = heartCounterStore.getLoadVersion(postId);
+            if (heartCounterStore.load(postId, heartRepository.findMemberIdsByPostId(postId), version)) {
+                return;
+            }
+        }
+        throw new IllegalStateException("Fail to load hearts of post " + postId);
+    }
+
+    private static Map<String, String> getMessage(String message) {
+        Map<String, String> result = new HashMap<>();
+        result.put("message", message);
+        return result;
+    }
+}
@@ -0,0 +1,31 @@
+package com.study.boardserver.domain.member.controller;
+
+import com.study.boardserver.domain.member.dto.revoke.RevokeTokensRequest;
+import com.study.boardserver.domain.member.service.MemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+@Tag(name = "회원 관리", description = "회원 관리 API Document")
+public class AdminMemberController {
+
+    private final MemberService memberService;
+
+    @PostMapping("/tokens/revoke")
+    @Operation(summary = "여러 회원의 모든 token 무효화")
+    public ResponseEntity<Map<String, String>> revokeTokens(@RequestBody @Valid RevokeTokensRequest request) {
+        Map<String, String> result = memberService.revokeTokens(request);
+        return ResponseEntity.ok(result);
+    }
+}
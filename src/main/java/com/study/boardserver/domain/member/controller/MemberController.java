@@ -82,4 +82,11 @@ public class MemberController {
         Map<String, String> result = memberService.logout(request);
         return ResponseEntity.ok(result);
     }
+
+    @PostMapping("/auth/logout-all")
+    @Operation(summary = "회원 모든 기기 로그아웃")
+    public ResponseEntity<Map<String, String>> logoutAll(@RequestBody LogoutRequest request) {
+        Map<String, String> result = memberService.logoutAll(request);
+        return ResponseEntity.ok(result);
+    }
 }
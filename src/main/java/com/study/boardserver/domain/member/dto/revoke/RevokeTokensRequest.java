@@ -0,0 +1,19 @@
+package com.study.boardserver.domain.member.dto.revoke;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotEmpty;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokeTokensRequest {
+
+    @NotEmpty(message = "회원 이메일을 입력해주세요.")
+    private List<String> emails;
+}
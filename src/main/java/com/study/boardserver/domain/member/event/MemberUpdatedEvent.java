@@ -0,0 +1,14 @@
+package com.study.boardserver.domain.member.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 회원 정보 변경 이벤트 (회원 캐시 무효화에 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class MemberUpdatedEvent {
+
+    private final String email;
+}
@@ -2,7 +2,11 @@ package com.study.boardserver.domain.member.repository;
 
 import com.study.boardserver.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -14,4 +18,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    @Query("select m.id from Member m where m.id in :memberIds")
+    List<Long> findExistingIds(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -5,6 +5,7 @@ import com.study.boardserver.domain.member.dto.login.LoginResponse;
 import com.study.boardserver.domain.member.dto.logout.LogoutRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenResponse;
+import com.study.boardserver.domain.member.dto.revoke.RevokeTokensRequest;
 import com.study.boardserver.domain.member.dto.signup.ConfirmAuthCodeRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpResponse;
@@ -52,4 +53,14 @@ public interface MemberService {
      * 회원 로그아웃
      */
     Map<String, String> logout (LogoutRequest request);
+
+    /**
+     * 회원 모든 기기 로그아웃
+     */
+    Map<String, String> logoutAll (LogoutRequest request);
+
+    /**
+     * 여러 회원의 모든 token 무효화 (관리자)
+     */
+    Map<String, String> revokeTokens (RevokeTokensRequest request);
 }
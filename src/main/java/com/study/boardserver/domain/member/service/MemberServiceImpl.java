@@ -6,26 +6,28 @@ import com.study.boardserver.domain.member.dto.login.LoginResponse;
 import com.study.boardserver.domain.member.dto.logout.LogoutRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenResponse;
+import com.study.boardserver.domain.member.dto.revoke.RevokeTokensRequest;
 import com.study.boardserver.domain.member.dto.signup.ConfirmAuthCodeRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpResponse;
 import com.study.boardserver.domain.member.entity.Member;
-import com.study.boardserver.domain.member.entity.MemberAuthCode;
 import com.study.boardserver.domain.member.repository.MemberRepository;
-import com.study.boardserver.domain.member.repository.redis.MemberAuthCodeRepository;
 import com.study.boardserver.domain.member.type.MemberRole;
 import com.study.boardserver.domain.member.type.MemberStatus;
 import com.study.boardserver.domain.security.CustomUserDetails;
 import com.study.boardserver.domain.security.jwt.JwtTokenProvider;
-import com.study.boardserver.domain.security.jwt.redis.LogoutAccessToken;
-import com.study.boardserver.domain.security.jwt.redis.LogoutAccessTokenRepository;
-import com.study.boardserver.domain.security.jwt.redis.RefreshToken;
-import com.study.boardserver.domain.security.jwt.redis.RefreshTokenRepository;
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.domain.security.jwt.TokenPair;
+import com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import com.study.boardserver.domain.security.jwt.revocation.TokenVersionService;
 import com.study.boardserver.domain.security.oauth2.type.ProviderType;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.exception.MemberException;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
 import com.study.boardserver.global.error.type.MemberErrorCode;
+import com.study.boardserver.global.redis.TokenStore;
+import com.study.boardserver.global.redis.TokenType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -35,21 +37,26 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class MemberServiceImpl implements MemberService {
 
+    private static final long AUTH_CODE_EXPIRATION = TimeUnit.MINUTES.toMillis(3);
+
     private final MemberRepository memberRepository;
     private final MailService mailService;
-    private final MemberAuthCodeRepository memberAuthCodeRepository;
+    private final TokenStore tokenStore;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final LogoutAccessTokenRepository logoutAccessTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionService tokenVersionService;
 
     @Override
     public Map<String, String> checkDuplicatedEmail(String email) {
@@ -76,13 +83,7 @@ public class MemberServiceImpl implements MemberService {
         String authCode = UUID.randomUUID().toString().substring(0, 8);
         mailService.sendMail(email, authCode);
 
-        MemberAuthCode code = MemberAuthCode.builder()
-                .id(authCode)
-                .expiredAt(180L)
-                .email(email)
-                .build();
-
-        memberAuthCodeRepository.save(code);
+        tokenStore.save(TokenType.AUTH_CODE, authCode, email, AUTH_CODE_EXPIRATION);
 
         return getMessage("이메일 인증 코드를 전송하였습니다.");
     }
@@ -90,7 +91,8 @@ public class MemberServiceImpl implements MemberService {
     @Override
     public Map<String, String> confirmAuthCode(ConfirmAuthCodeRequest request) {
 
-        memberAuthCodeRepository.findByIdAndEmail(request.getCode(), request.getEmail())
+        tokenStore.find(TokenType.AUTH_CODE, request.getCode())
+                .filter(request.getEmail()::equals)
                 .orElseThrow(()-> new MemberException(MemberErrorCode.INVALID_EMAIL_AUTH_CODE));
 
         return getMessage("이메일 인증이 완료되었습니다.");
@@ -138,61 +140,54 @@ public class MemberServiceImpl implements MemberService {
         SecurityContextHolder.getContext().setAuthentication(authentication);
         CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
-        String accessToken = jwtTokenProvider.issueAccessToken(userDetails.getUsername(), userDetails.getRole().name());
-        String refreshToken = jwtTokenProvider.issueRefreshToken(userDetails.getUsername(), userDetails.getRole().name());
+        TokenPair tokens = jwtTokenProvider.issueTokens(userDetails.getUsername(), userDetails.getRole().name());
 
         return LoginResponse.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
+                .accessToken(tokens.getAccessToken())
+                .refreshToken(tokens.getRefreshToken())
                 .build();
     }
 
     @Override
     public ReissueTokenResponse reissueToken(ReissueTokenRequest request) {
-        String refreshToken = request.getRefreshToken();
-
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new MemberAuthException(MemberAuthErrorCode.INVALID_REFRESH_TOKEN);
-        }
-
-        String email = jwtTokenProvider.getUsername(refreshToken);
-        String role = jwtTokenProvider.getUserRole(refreshToken);
-
-        RefreshToken findRefreshToken  = refreshTokenRepository.findById(email)
-                .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.NOT_EXIST_REFRESH_TOKEN));
-
-        if(!refreshToken.equals(findRefreshToken.getRefreshToken())) {
-            throw new MemberAuthException(MemberAuthErrorCode.NOT_MATCH_REFRESH_TOKEN);
-        }
+        ParsedToken refreshToken = jwtTokenProvider.parseTokenIfValid(request.getRefreshToken())
+                .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.INVALID_REFRESH_TOKEN));
 
-        String newAccessToken = jwtTokenProvider.issueAccessToken(email, role);
+        TokenPair tokens = jwtTokenProvider.reissueTokens(refreshToken);
 
         return ReissueTokenResponse.builder()
-                .accessToken(newAccessToken)
+                .accessToken(tokens.getAccessToken())
+                .refreshToken(tokens.getRefreshToken())
                 .build();
     }
 
     @Override
     public Map<String, String> logout(LogoutRequest request) {
-        String accessToken = request.getAccessToken();
+        ParsedToken accessToken = jwtTokenProvider.parseTokenIfValid(request.getAccessToken())
+                .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.INVALID_ACCESS_TOKEN));
 
-        if(!jwtTokenProvider.validateToken(accessToken)) {
-            throw new MemberAuthException(MemberAuthErrorCode.INVALID_ACCESS_TOKEN);
-        }
+        refreshTokenStore.delete(accessToken.getEmail(), accessToken.getSessionId());
+        tokenRevocationService.revoke(accessToken);
 
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
-        String email = authentication.getName();
+        return getMessage("로그아웃");
+    }
 
-        refreshTokenRepository.deleteById(email);
+    @Override
+    public Map<String, String> logoutAll(LogoutRequest request) {
+        ParsedToken accessToken = jwtTokenProvider.parseTokenIfValid(request.getAccessToken())
+                .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.INVALID_ACCESS_TOKEN));
 
-        LogoutAccessToken logoutAccessToken = LogoutAccessToken.builder()
-                .id(accessToken)
-                .expiration(jwtTokenProvider.getRemainingTime(accessToken))
-                .build();
+        tokenVersionService.increment(accessToken.getEmail());
+        refreshTokenStore.deleteAll(accessToken.getEmail());
 
-        logoutAccessTokenRepository.save(logoutAccessToken);
+        return getMessage("모든 기기에서 로그아웃");
+    }
 
-        return getMessage("로그아웃");
+    @Override
+    public Map<String, String> revokeTokens(RevokeTokensRequest request) {
+        // 세대 번호만 증가 (남은 session index 는 만료가 가장 가까워 새 session 보다 먼저 정리된다)
+        int count = tokenVersionService.incrementAll(new LinkedHashSet<>(request.getEmails()));
+        return getMessage(count + "명의 token 을 무효화하였습니다.");
     }
 
     private static Map<String, String> getMessage(String message) {
@@ -2,6 +2,8 @@ package com.study.boardserver.domain.security;
 
 import com.study.boardserver.domain.member.entity.Member;
 import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.security.oauth2.info.OAuth2UserInfo;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
@@ -12,17 +14,28 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Getter
 @NoArgsConstructor
 public class CustomUserDetails implements UserDetails, OAuth2User {
 
+    private static final long serialVersionUID = 1L;
+
     private String username;
     private String password;
     private MemberRole role;
     private Member member;
     private Map<String, Object> attributes;
 
+    /**
+     * oauth2 로그인 시 파싱한 회원 정보
+     */
+    private OAuth2UserInfo userInfo;
+
+    @Getter(AccessLevel.NONE)
+    private Supplier<Member> memberLoader;
+
     public CustomUserDetails(Member member) {
         this.username = member.getEmail();
         this.password = member.getPassword();
@@ -30,12 +43,29 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
         this.role = member.getRole();
     }
 
-    public CustomUserDetails(Member member, Map<String, Object> attributes) {
+    public CustomUserDetails(Member member, OAuth2UserInfo userInfo) {
         this.username = member.getEmail();
         this.password = member.getPassword();
         this.member = member;
         this.role = member.getRole();
-        this.attributes = attributes;
+        this.attributes = userInfo.getAttributes();
+        this.userInfo = userInfo;
+    }
+
+    /**
+     * token claim 만으로 생성 (member 는 실제로 필요할 때 조회)
+     */
+    public CustomUserDetails(String username, MemberRole role, Supplier<Member> memberLoader) {
+        this.username = username;
+        this.role = role;
+        this.memberLoader = memberLoader;
+    }
+
+    public Member getMember() {
+        if (member == null && memberLoader != null) {
+            member = memberLoader.get();
+        }
+        return member;
     }
 
     @Override
@@ -75,7 +105,7 @@ public class CustomUserDetails implements UserDetails, OAuth2User {
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singleton(new SimpleGrantedAuthority(member.getRole().name()));
+        return Collections.singleton(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
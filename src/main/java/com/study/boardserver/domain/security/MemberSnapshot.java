@@ -0,0 +1,61 @@
+package com.study.boardserver.domain.security;
+
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.member.type.MemberStatus;
+import com.study.boardserver.domain.security.oauth2.type.ProviderType;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 캐시에 저장하는 변경 불가능한 회원 정보
+ *
+ * 요청마다 새 Member 를 만들어 넘기므로 한 요청에서 바꾼 값이 캐시나 다른 요청에 남지 않는다.
+ */
+@Getter
+public final class MemberSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final String nickname;
+    private final LocalDate birth;
+    private final MemberStatus status;
+    private final MemberRole role;
+    private final ProviderType providerType;
+    private final String imgUrl;
+
+    private MemberSnapshot(Member member) {
+        this.id = member.getId();
+        this.email = member.getEmail();
+        this.password = member.getPassword();
+        this.nickname = member.getNickname();
+        this.birth = member.getBirth();
+        this.status = member.getStatus();
+        this.role = member.getRole();
+        this.providerType = member.getProviderType();
+        this.imgUrl = member.getImgUrl();
+    }
+
+    public static MemberSnapshot from(Member member) {
+        return new MemberSnapshot(member);
+    }
+
+    /**
+     * 영속성 컨텍스트와 분리된 새 Member (연관관계 지정 시 id 만 사용된다)
+     */
+    public Member toMember() {
+        return Member.builder()
+                .id(id)
+                .email(email)
+                .password(password)
+                .nickname(nickname)
+                .birth(birth)
+                .status(status)
+                .role(role)
+                .providerType(providerType)
+                .imgUrl(imgUrl)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.study.boardserver.domain.security.config;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.web.client.RestOperations;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * oauth2 user-info 요청용 http client (connection pool, timeout 설정)
+ *
+ * CustomOAuth2UserService 는 생성자로 RestOperations 를 받으므로 테스트 등에서는 다른 client 로 교체할 수 있다.
+ */
+@Configuration
+public class OAuth2ClientConfig {
+
+    @Bean
+    public RestOperations oAuth2UserInfoRestOperations(
+            @Value("${oauth.user-info.connect-timeout:2000}") int connectTimeout,
+            @Value("${oauth.user-info.read-timeout:3000}") int readTimeout,
+            @Value("${oauth.user-info.max-connections:50}") int maxConnections) {
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .build();
+
+        HttpClient httpClient = HttpClientBuilder.create()
+                .setDefaultRequestConfig(requestConfig)
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .evictIdleConnections(30, TimeUnit.SECONDS)
+                .disableCookieManagement()
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        return restTemplate;
+    }
+}
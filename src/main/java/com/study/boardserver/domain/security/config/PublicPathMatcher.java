@@ -0,0 +1,82 @@
+package com.study.boardserver.domain.security.config;
+
+import com.study.boardserver.domain.security.controller.JwksController;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+
+/**
+ * 인증 없이 호출할 수 있는 경로 (SecurityConfig 의 permitAll 과 JwtAuthenticationFilter 가 함께 사용)
+ *
+ * 경로를 길이별로 미리 나눠 두고, 요청 URI 와 길이가 같은 경로만 regionMatches 로 비교한다. (객체 생성 없음)
+ * 경로는 정확히 일치해야 하며, encoding 되었거나 path parameter 가 붙은 URI 는 인증이 필요한 것으로 본다.
+ */
+@Component
+public class PublicPathMatcher implements RequestMatcher {
+
+    private static final PublicPath[] NONE = new PublicPath[0];
+
+    /**
+     * 경로 길이 -> 해당 길이의 경로
+     */
+    private PublicPath[][] pathsByLength = new PublicPath[0][];
+
+    public PublicPathMatcher() {
+        add(null, "/api/members/sign-up/email", "/api/members/nickname",
+                "/api/members/email-auth", "/api/members/email-authentication",
+                "/api/members/sign-up", "/api/members/auth/login", "/api/members/auth/token");
+        add(HttpMethod.GET, JwksController.JWKS_PATH);
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        int length = uri.length() - offset;
+
+        if (length < 0 || length >= pathsByLength.length) {
+            return false;
+        }
+
+        for (PublicPath path : pathsByLength[length]) {
+            if (uri.regionMatches(offset, path.path, 0, length)) {
+                return path.method == null || path.method.equals(request.getMethod());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * method 가 null 이면 모든 method 허용
+     */
+    private void add(HttpMethod method, String... paths) {
+        for (String path : paths) {
+            int length = path.length();
+
+            if (length >= pathsByLength.length) {
+                int size = pathsByLength.length;
+                pathsByLength = Arrays.copyOf(pathsByLength, length + 1);
+                Arrays.fill(pathsByLength, size, length + 1, NONE);
+            }
+
+            PublicPath[] sameLength = Arrays.copyOf(pathsByLength[length], pathsByLength[length].length + 1);
+            sameLength[sameLength.length - 1] = new PublicPath(path, method == null ? null : method.name());
+            pathsByLength[length] = sameLength;
+        }
+    }
+
+    private static final class PublicPath {
+
+        private final String path;
+
+        private final String method;
+
+        private PublicPath(String path, String method) {
+            this.path = path;
+            this.method = method;
+        }
+    }
+}
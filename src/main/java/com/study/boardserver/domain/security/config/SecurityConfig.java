@@ -6,7 +6,7 @@ import com.study.boardserver.domain.security.handler.OAuth2AuthenticationFailure
 import com.study.boardserver.domain.security.handler.OAuth2AuthenticationSuccessHandler;
 import com.study.boardserver.domain.security.jwt.JwtAuthenticationFilter;
 import com.study.boardserver.domain.security.jwt.JwtExceptionFilter;
-import com.study.boardserver.domain.security.oauth2.repository.CookieAuthorizationRequestRepository;
+import com.study.boardserver.domain.security.oauth2.repository.OAuth2AuthorizationRequestRepository;
 import com.study.boardserver.domain.security.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -37,7 +37,8 @@ public class SecurityConfig {
     private final CustomOAuth2UserService oAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler authenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler authenticationFailureHandler;
-    private final CookieAuthorizationRequestRepository authorizationRequestRepository;
+    private final OAuth2AuthorizationRequestRepository authorizationRequestRepository;
+    private final PublicPathMatcher publicPathMatcher;
 
 
     @Bean
@@ -70,9 +71,7 @@ public class SecurityConfig {
 
         http.authorizeRequests()
                 .requestMatchers(CorsUtils::isPreFlightRequest).permitAll()
-                .antMatchers("/api/members/sign-up/email", "/api/members/nickname"
-                        , "/api/members/email-auth", "/api/members/email-authentication"
-                        , "/api/members/sign-up", "/api/members/auth/login", "/api/members/auth/token").permitAll()
+                .requestMatchers(publicPathMatcher).permitAll()
                 .antMatchers("/api/admin/**").hasAuthority(ROLE_ADMIN.name())
                 .anyRequest().authenticated();
 
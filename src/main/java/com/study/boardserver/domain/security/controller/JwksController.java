@@ -0,0 +1,33 @@
+package com.study.boardserver.domain.security.controller;
+
+import com.study.boardserver.domain.security.jwt.key.JwtKeyManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "인증", description = "인증 API Document")
+public class JwksController {
+
+    public static final String JWKS_PATH = "/.well-known/jwks.json";
+
+    private final JwtKeyManager jwtKeyManager;
+
+    @GetMapping(JWKS_PATH)
+    @Operation(summary = "token 검증용 공개 key 목록")
+    public ResponseEntity<Map<String, List<Map<String, String>>>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(Collections.singletonMap("keys", jwtKeyManager.getJwks()));
+    }
+}
@@ -2,16 +2,13 @@ package com.study.boardserver.domain.security.handler;
 
 import com.study.boardserver.domain.security.CustomUserDetails;
 import com.study.boardserver.domain.security.jwt.JwtTokenProvider;
-import com.study.boardserver.domain.security.oauth2.info.OAuth2UserInfo;
-import com.study.boardserver.domain.security.oauth2.info.OAuth2UserInfoFactory;
-import com.study.boardserver.domain.security.oauth2.repository.CookieAuthorizationRequestRepository;
-import com.study.boardserver.domain.security.oauth2.type.ProviderType;
+import com.study.boardserver.domain.security.jwt.TokenPair;
+import com.study.boardserver.domain.security.oauth2.repository.OAuth2AuthorizationRequestRepository;
 import com.study.boardserver.domain.security.util.CookieUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -24,7 +21,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.util.Optional;
 
-import static com.study.boardserver.domain.security.oauth2.repository.CookieAuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME;
+import static com.study.boardserver.domain.security.oauth2.repository.OAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME;
 
 /**
  * oauth2 인증 성공 시 호출
@@ -41,7 +38,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     private static final String REFRESH_TOKEN = "refreshToken";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CookieAuthorizationRequestRepository authorizationRequestRepository;
+    private final OAuth2AuthorizationRequestRepository authorizationRequestRepository;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException, ServletException {
@@ -69,17 +66,12 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         CustomUserDetails oAuth2User = (CustomUserDetails) authentication.getPrincipal();
 
-        OAuth2AuthenticationToken authToken = (OAuth2AuthenticationToken) authentication;
-        ProviderType providerType = ProviderType.valueOf(authToken.getAuthorizedClientRegistrationId().toUpperCase());
-        OAuth2UserInfo userInfo = OAuth2UserInfoFactory.getOAuth2UserInfo(providerType, oAuth2User.getAttributes());
-
-        String email = userInfo.getEmail();
+        String email = oAuth2User.getUserInfo().getEmail();
         String role = oAuth2User.getRole().name();
 
-        String accessToken = jwtTokenProvider.issueAccessToken(email, role);
-        String refreshToken = jwtTokenProvider.issueRefreshToken(email, role);
+        TokenPair tokens = jwtTokenProvider.issueTokens(email, role);
 
-        return makeRedirectUrl(targetUrl, accessToken, refreshToken);
+        return makeRedirectUrl(targetUrl, tokens.getAccessToken(), tokens.getRefreshToken());
     }
 
     /**
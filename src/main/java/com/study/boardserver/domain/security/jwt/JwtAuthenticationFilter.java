@@ -1,5 +1,7 @@
 package com.study.boardserver.domain.security.jwt;
 
+import com.study.boardserver.domain.security.config.PublicPathMatcher;
+import com.study.boardserver.global.error.response.ErrorResponseWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -11,27 +13,39 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Arrays;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private static final String[] EXCLUDED_URL = {"/api/members/auth/login", "/api/members/auth/token"};
+    private final ErrorResponseWriter errorResponseWriter;
+    private final PublicPathMatcher publicPathMatcher;
 
+    /**
+     * 인증이 필요 없는 경로는 token 을 확인하지 않음
+     */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        return Arrays.stream(EXCLUDED_URL).anyMatch(request.getRequestURI()::startsWith);
+        return publicPathMatcher.matches(request);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String token = jwtTokenProvider.resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateAccessToken(token)) {
-            if(!jwtTokenProvider.isLogoutAccessToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        if (token != null) {
+            TokenValidationResult result = jwtTokenProvider.validateToken(token);
+
+            if (!result.isValid()) {
+                errorResponseWriter.writeUnauthorized(response, result.getErrorCode());
+                return;
+            }
+
+            ParsedToken parsedToken = result.getToken();
+
+            if(!jwtTokenProvider.isLogoutAccessToken(parsedToken)) {
+                Authentication authentication = jwtTokenProvider.getAuthentication(parsedToken);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
@@ -1,11 +1,8 @@
 package com.study.boardserver.domain.security.jwt;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.study.boardserver.global.error.exception.MemberAuthException;
-import com.study.boardserver.global.error.response.ErrorResponse;
+import com.study.boardserver.global.error.response.ErrorResponseWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -19,27 +16,14 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtExceptionFilter extends OncePerRequestFilter {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         try {
             filterChain.doFilter(request, response);
         } catch (MemberAuthException e) {
-            setErrorResponse(response, e.getMessage());
+            errorResponseWriter.writeUnauthorized(response, e.getErrorCode());
         }
     }
-
-    private void setErrorResponse(HttpServletResponse response, String message) throws IOException {
-        response.setCharacterEncoding("UTF-8");
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(HttpStatus.UNAUTHORIZED.value());
-
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .status(HttpStatus.UNAUTHORIZED.value())
-                .message(message)
-                .build();
-
-        objectMapper.writeValue(response.getWriter(), errorResponse);
-    }
 }
@@ -1,10 +1,17 @@
 package com.study.boardserver.domain.security.jwt;
 
-import com.study.boardserver.domain.security.jwt.redis.LogoutAccessTokenRepository;
-import com.study.boardserver.domain.security.jwt.redis.RefreshToken;
-import com.study.boardserver.domain.security.jwt.redis.RefreshTokenRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.domain.security.jwt.key.JwtKeyManager;
+import com.study.boardserver.domain.security.jwt.key.JwtSigningKey;
+import com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import com.study.boardserver.domain.security.jwt.revocation.TokenVersionService;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,9 +25,11 @@ import org.springframework.util.StringUtils;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -28,13 +37,18 @@ import java.util.Date;
 public class JwtTokenProvider {
 
     private final UserDetailsService userDetailsService;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final LogoutAccessTokenRepository logoutAccessTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final TokenVersionService tokenVersionService;
+    private final JwtKeyManager jwtKeyManager;
+    private final VerifiedTokenCache verifiedTokenCache;
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
-
-    @Value("${spring.jwt.secret}")
-    private String secretKey;
+    static final String EMAIL_CLAIM = "email";
+    static final String ROLE_CLAIM = "role";
+    static final String SESSION_CLAIM = "sid";
+    static final String VERSION_CLAIM = "tokenVersion";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     @Value("${spring.jwt.valid.accessToken}")
     private Long accessTokenValid;
@@ -43,60 +57,120 @@ public class JwtTokenProvider {
     private Long refreshTokenValid;
 
     /**
-     * key Base64 형식으로 인코딩
+     * true 인 경우 요청마다 회원을 조회하지 않고 token claim 으로 인증 정보 생성
+     */
+    @Value("${spring.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
+    private JwtParser jwtParser;
+
+    /**
+     * parser 는 한 번만 생성해 재사용 (설정 후 상태가 바뀌지 않아 thread-safe, 검증 key 는 kid 로 조회)
      */
     @PostConstruct
     protected void init() {
-        secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser().setSigningKeyResolver(jwtKeyManager);
     }
 
     /**
-     * token 생성
+     * token 생성 (회원의 현재 세대 번호 포함)
      */
     public String createToken(String email, long expireTime, String role) {
+        return createToken(UUID.randomUUID().toString(), email, expireTime, role, null,
+                tokenVersionService.loadVersion(email));
+    }
+
+    private String createToken(String tokenId, String email, long expireTime, String role,
+                               String sessionId, long tokenVersion) {
         Claims claims = Jwts.claims().setSubject("token");
 
-        claims.put("email", email);
-        claims.put("role", role);
+        claims.put(EMAIL_CLAIM, email);
+        claims.put(ROLE_CLAIM, role);
+        claims.put(VERSION_CLAIM, tokenVersion);
+
+        if (sessionId != null) {
+            claims.put(SESSION_CLAIM, sessionId);
+        }
+
+        JwtSigningKey signingKey = jwtKeyManager.getCurrentKey();
 
         Date now = new Date();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId())
                 .setClaims(claims)
+                .setId(tokenId)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + expireTime))
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(signingKey.getAlgorithm(), signingKey.getSigningKey())
                 .compact();
     }
 
     /**
-     * access token 발급
+     * 로그인 시 새 session 으로 access token / refresh token 발급
      */
-    public String issueAccessToken(String email, String role) {
-        return createToken(email, accessTokenValid, role);
+    public TokenPair issueTokens(String email, String role) {
+        String sessionId = UUID.randomUUID().toString();
+        long tokenVersion = tokenVersionService.loadVersion(email);
+
+        String tokenId = UUID.randomUUID().toString();
+        String refreshToken = createToken(tokenId, email, refreshTokenValid, role, sessionId, tokenVersion);
+        refreshTokenStore.save(email, sessionId, tokenId, refreshTokenValid);
+
+        String accessToken = createToken(UUID.randomUUID().toString(), email, accessTokenValid, role, sessionId, tokenVersion);
+        return new TokenPair(accessToken, refreshToken);
     }
 
     /**
-     * refresh token 발급
+     * refresh token 교체 발급 (같은 session 유지, 이전 refresh token 은 더 이상 사용할 수 없음)
      */
-    public String issueRefreshToken(String email, String role) {
-        String refreshToken = createToken(email, refreshTokenValid, role);
-        saveRefreshToken(email, refreshToken);
-        return refreshToken;
+    public TokenPair reissueTokens(ParsedToken refreshToken) {
+        String email = refreshToken.getEmail();
+        String role = refreshToken.getRole();
+        String sessionId = refreshToken.getSessionId();
+        long tokenVersion = refreshToken.getTokenVersion();
+
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshToken,
+                UUID.randomUUID().toString(), refreshTokenValid);
+        RefreshTokenStore.RotateResult result = rotation.getResult();
+
+        if (result == RefreshTokenStore.RotateResult.NOT_EXIST) {
+            throw new MemberAuthException(MemberAuthErrorCode.NOT_EXIST_REFRESH_TOKEN);
+        }
+        if (result == RefreshTokenStore.RotateResult.REUSED) {
+            log.warn("Reused refresh token: {}", email);
+            throw new MemberAuthException(MemberAuthErrorCode.REUSED_REFRESH_TOKEN);
+        }
+
+        // 같은 기기의 동시 요청은 먼저 교체된 jti 로 발급되어 어느 응답의 token 을 저장해도 유효
+        String newRefreshToken = createToken(rotation.getTokenId(), email, refreshTokenValid, role, sessionId, tokenVersion);
+        String accessToken = createToken(UUID.randomUUID().toString(), email, accessTokenValid, role, sessionId, tokenVersion);
+        return new TokenPair(accessToken, newRefreshToken);
     }
 
     /**
      * token 인증 정보 조회
      */
-    public Authentication getAuthentication(String token) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(getUsername(token));
+    public Authentication getAuthentication(ParsedToken token) {
+        UserDetails userDetails = statelessPrincipal
+                ? createStatelessUserDetails(token)
+                : userDetailsService.loadUserByUsername(token.getEmail());
 
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
+    /**
+     * token claim 으로 인증 정보 생성 (member 는 getMember() 호출 시 조회)
+     */
+    private UserDetails createStatelessUserDetails(ParsedToken token) {
+        String email = token.getEmail();
+
+        return new CustomUserDetails(email, MemberRole.valueOf(token.getRole()),
+                () -> ((CustomUserDetails) userDetailsService.loadUserByUsername(email)).getMember());
+    }
+
     public Claims extractClaims(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(secretKey)
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody();
         } catch (ExpiredJwtException e) {
@@ -111,74 +185,97 @@ public class JwtTokenProvider {
         }
     }
 
-    public String getUsername(String token) {
-
-        Claims claims = extractClaims(token);
-
-        return claims.get("email", String.class);
-    }
-
-    public String getUserRole(String token) {
-
-        Claims claims = extractClaims(token);
-
-        return claims.get("role", String.class);
+    /**
+     * token 서명 검증 및 파싱 (검증 실패 시 예외 발생)
+     */
+    public ParsedToken parseToken(String token) {
+        return validateToken(token).getTokenOrThrow();
     }
 
-    public String resolveToken(HttpServletRequest request) {
-        String headerAuth = request.getHeader(AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(BEARER_PREFIX)) {
-            return headerAuth.substring(BEARER_PREFIX.length());
-        }
-        return null;
+    /**
+     * token 검증 (실패 시 예외 대신 error code 반환, 검증된 token 은 만료 시각까지 캐시)
+     */
+    public TokenValidationResult validateToken(String token) {
+        return verifiedTokenCache.get(token, this::verify);
     }
 
     /**
-     * access token 유효성 검증
+     * token 유효성 검증 후 파싱 (refresh token 재발급 및 로그아웃에 사용)
      */
-    public boolean validateAccessToken(String token) {
-        return !extractClaims(token).getExpiration().before(new Date());
+    public Optional<ParsedToken> parseTokenIfValid(String token) {
+        TokenValidationResult result = verify(token);
+        return result.isValid() ? Optional.of(result.getToken()) : Optional.empty();
     }
 
     /**
-     * token 유효성 검증 (refresh token 재발급 및 로그아웃에 사용)
+     * 형식이 잘못되었거나 만료된 token 은 서명 검증 전에 걸러 예외 없이 처리
      */
-    public boolean validateToken(String token) {
+    private TokenValidationResult verify(String token) {
+        MemberAuthErrorCode errorCode = precheck(token);
+        if (errorCode != null) {
+            return TokenValidationResult.invalid(errorCode);
+        }
+
         try {
-            return !extractClaims(token).getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+            return TokenValidationResult.valid(new ParsedToken(token, extractClaims(token)));
+        } catch (MemberAuthException e) {
+            return TokenValidationResult.invalid(e.getErrorCode());
         }
     }
 
     /**
-     * token 남은 유효 시간 계산
+     * header.payload.signature 형식과 exp claim 만 확인 (판단할 수 없으면 null, 서명 검증에서 처리)
      */
-    public long getRemainingTime(String token) {
-        Date expiration = extractClaims(token).getExpiration();
-        Date now = new Date();
-        return expiration.getTime() - now.getTime();
-    }
+    private static MemberAuthErrorCode precheck(String token) {
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
 
-    /**
-     * access token 로그아웃 여부
-     */
-    public boolean isLogoutAccessToken(String token) {
-        return logoutAccessTokenRepository.existsById(token);
+        if (headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN;
+        }
+
+        byte[] payload;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(headerEnd + 1, payloadEnd));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        // payload 전체를 읽지 않고 exp 필드만 찾는다 (읽을 수 없으면 서명 검증에서 처리)
+        try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean expiration = Claims.EXPIRATION.equals(parser.getCurrentName());
+                JsonToken value = parser.nextToken();
+
+                if (expiration) {
+                    return value == JsonToken.VALUE_NUMBER_INT && parser.getLongValue() * 1000 < System.currentTimeMillis()
+                            ? MemberAuthErrorCode.EXPIRED_ACCESS_TOKEN : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return null;
     }
 
+    public String resolveToken(HttpServletRequest request) {
+        String headerAuth = request.getHeader(AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith(BEARER_PREFIX)) {
+            return headerAuth.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
 
     /**
-     * refresh token redis 저장
+     * access token 로그아웃 여부 (이전 세대 token 이거나 로그아웃한 token)
      */
-    public void saveRefreshToken(String email, String token) {
-
-        RefreshToken refreshToken = RefreshToken.builder()
-                .id(email)
-                .refreshToken(token)
-                .expiration(refreshTokenValid)
-                .build();
-
-        refreshTokenRepository.save(refreshToken);
+    public boolean isLogoutAccessToken(ParsedToken token) {
+        return token.getTokenVersion() < tokenVersionService.getVersion(token.getEmail())
+                || tokenRevocationService.isRevoked(token);
     }
 }
@@ -0,0 +1,74 @@
+package com.study.boardserver.domain.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 token 정보 (요청당 한 번만 파싱)
+ */
+@Getter
+public class ParsedToken {
+
+    private final String token;
+
+    private final Claims claims;
+
+    /**
+     * jti claim (jti 가 없는 이전 token 은 token 의 SHA-256 hash)
+     */
+    private final String tokenId;
+
+    private final String email;
+
+    private final String role;
+
+    private final Date expiration;
+
+    /**
+     * 로그인 기기(session) id (이전 token 은 null)
+     */
+    private final String sessionId;
+
+    /**
+     * 발급 당시 회원 token 세대 번호 (이전 token 은 0)
+     */
+    private final long tokenVersion;
+
+    public ParsedToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+        this.tokenId = claims.getId() != null ? claims.getId() : hash(token);
+        this.email = claims.get(JwtTokenProvider.EMAIL_CLAIM, String.class);
+        this.role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        this.expiration = claims.getExpiration();
+        this.sessionId = claims.get(JwtTokenProvider.SESSION_CLAIM, String.class);
+
+        Number version = claims.get(JwtTokenProvider.VERSION_CLAIM, Number.class);
+        this.tokenVersion = version == null ? 0 : version.longValue();
+    }
+
+    /**
+     * token 남은 유효 시간 계산
+     */
+    public long getRemainingTime() {
+        return expiration.getTime() - System.currentTimeMillis();
+    }
+
+    /**
+     * token SHA-256 hash (Base64 URL)
+     */
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
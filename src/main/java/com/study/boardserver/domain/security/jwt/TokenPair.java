@@ -0,0 +1,16 @@
+package com.study.boardserver.domain.security.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 같은 session 으로 발급된 access token / refresh token
+ */
+@Getter
+@AllArgsConstructor
+public class TokenPair {
+
+    private final String accessToken;
+
+    private final String refreshToken;
+}
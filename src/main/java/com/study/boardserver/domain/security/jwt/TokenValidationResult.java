@@ -0,0 +1,56 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.study.boardserver.global.error.exception.MemberAuthException;
+import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * token 검증 결과 (검증 실패를 예외 대신 error code 로 전달)
+ *
+ * 실패 결과는 error code 별로 미리 만들어 두고 재사용한다.
+ */
+@Getter
+public class TokenValidationResult {
+
+    private static final Map<MemberAuthErrorCode, TokenValidationResult> FAILURES = new EnumMap<>(MemberAuthErrorCode.class);
+
+    static {
+        for (MemberAuthErrorCode errorCode : MemberAuthErrorCode.values()) {
+            FAILURES.put(errorCode, new TokenValidationResult(null, errorCode));
+        }
+    }
+
+    private final ParsedToken token;
+
+    private final MemberAuthErrorCode errorCode;
+
+    private TokenValidationResult(ParsedToken token, MemberAuthErrorCode errorCode) {
+        this.token = token;
+        this.errorCode = errorCode;
+    }
+
+    public static TokenValidationResult valid(ParsedToken token) {
+        return new TokenValidationResult(token, null);
+    }
+
+    public static TokenValidationResult invalid(MemberAuthErrorCode errorCode) {
+        return FAILURES.get(errorCode);
+    }
+
+    public boolean isValid() {
+        return errorCode == null;
+    }
+
+    /**
+     * 검증 실패 시 MemberAuthException 발생
+     */
+    public ParsedToken getTokenOrThrow() {
+        if (errorCode != null) {
+            throw new MemberAuthException(errorCode);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,61 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 서명 검증이 끝난 token 캐시
+ *
+ * key 는 token 원문 대신 SHA-256 hash 를 사용하고, 각 항목은 token 의 exp 시각에 만료된다.
+ * 검증에 성공한 결과만 저장한다.
+ * 로그아웃 여부는 캐시와 관계없이 매 요청 확인한다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, TokenValidationResult> cache;
+
+    public VerifiedTokenCache(@Value("${spring.jwt.verified-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, TokenValidationResult>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenValidationResult value, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(value.getToken().getRemainingTime(), 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenValidationResult value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenValidationResult value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 검증 후 성공한 경우에만 저장
+     */
+    public TokenValidationResult get(String token, Function<String, TokenValidationResult> validator) {
+        String key = ParsedToken.hash(token);
+        TokenValidationResult result = cache.getIfPresent(key);
+
+        if (result == null) {
+            result = validator.apply(token);
+            if (result.isValid()) {
+                cache.put(key, result);
+            }
+        }
+        return result;
+    }
+}
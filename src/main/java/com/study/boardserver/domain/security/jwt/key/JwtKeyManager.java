@@ -0,0 +1,286 @@
+package com.study.boardserver.domain.security.jwt.key;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * token 서명 key 관리
+ *
+ * HS256(기본) : spring.jwt.secret 하나로 서명 / 검증
+ * ES256 : 서버마다 EC key pair 를 만들어 주기적으로 교체하고, 공개 key 는 redis 에 공유해 다른 서버와
+ *         JWKS endpoint 를 통해 외부에서도 검증할 수 있게 한다. 교체된 key 는 그 key 로 서명한 token 이 만료될 때까지 검증에 사용한다.
+ *         새 key 는 channel 로도 발행해 다른 서버가 바로 캐시하고, 메시지를 놓친 경우에만 redis 를 다시 읽는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JwtKeyManager extends SigningKeyResolverAdapter implements MessageListener {
+
+    public static final String JWKS_KEY = "jwks";
+    public static final String JWKS_CHANNEL = "jwks";
+    private static final String SECRET_KEY_ID = "secret";
+    private static final String DELIMITER = ":";
+    private static final String EC_CURVE = "secp256r1";
+    private static final int EC_COORDINATE_LENGTH = 32;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${spring.jwt.secret}")
+    private String secretKey;
+
+    @Value("${spring.jwt.algorithm:HS256}")
+    private SignatureAlgorithm algorithm;
+
+    @Value("${spring.jwt.valid.refreshToken}")
+    private Long refreshTokenValid;
+
+    @Value("${spring.jwt.key-rotation-interval:86400000}")
+    private long rotationInterval;
+
+    /**
+     * 모르는 kid 가 들어왔을 때 redis 의 공개 key 를 다시 읽는 최소 간격
+     */
+    @Value("${spring.jwt.key-refresh-interval:1000}")
+    private long keyRefreshInterval;
+
+    private final Map<String, JwtSigningKey> keys = new ConcurrentHashMap<>();
+
+    private final AtomicLong keysRefreshedAt = new AtomicLong();
+
+    private volatile JwtSigningKey currentKey;
+
+    @PostConstruct
+    protected void init() {
+        if (algorithm == SignatureAlgorithm.HS256) {
+            Key key = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), algorithm.getJcaName());
+            currentKey = new JwtSigningKey(SECRET_KEY_ID, algorithm, key, key, Long.MAX_VALUE);
+            keys.put(SECRET_KEY_ID, currentKey);
+        } else if (algorithm == SignatureAlgorithm.ES256) {
+            redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(JWKS_CHANNEL));
+            rotate();
+        } else {
+            throw new IllegalStateException("Unsupported jwt algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * 현재 서명 key
+     */
+    public JwtSigningKey getCurrentKey() {
+        return currentKey;
+    }
+
+    /**
+     * EC key pair 교체 (HS256 은 교체하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.key-rotation-interval:86400000}",
+            initialDelayString = "${spring.jwt.key-rotation-interval:86400000}")
+    public void rotate() {
+        if (algorithm.isHmac()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        KeyPair keyPair = generateKeyPair();
+        JwtSigningKey key = new JwtSigningKey(UUID.randomUUID().toString(), algorithm,
+                keyPair.getPrivate(), keyPair.getPublic(), now + rotationInterval + refreshTokenValid);
+
+        keys.put(key.getKeyId(), key);
+        publish(key, now);
+        currentKey = key;
+
+        keys.values().removeIf(k -> k.isExpired(now));
+    }
+
+    /**
+     * token header 의 kid 로 검증 key 조회 (모르는 kid 는 redis 에서 공개 key 를 가져와 캐시)
+     */
+    @Override
+    @SuppressWarnings("rawtypes") // jjwt 0.9.1 의 SigningKeyResolver 가 raw type 으로 선언
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolveSigningKey((JwsHeader<?>) header);
+    }
+
+    private Key resolveSigningKey(JwsHeader<?> header) {
+        String keyId = header.getKeyId() != null ? header.getKeyId() : SECRET_KEY_ID;
+
+        JwtSigningKey key = keys.get(keyId);
+        if (key == null && !algorithm.isHmac()) {
+            key = loadPublishedKey(keyId);
+        }
+
+        if (key == null || key.isExpired(System.currentTimeMillis())) {
+            throw new SignatureException("Unknown signing key: " + keyId);
+        }
+        if (!key.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("Signing algorithm mismatch: " + header.getAlgorithm());
+        }
+        return key.getVerifyKey();
+    }
+
+    /**
+     * 검증 가능한 공개 key 목록 (JWK 형식)
+     */
+    public List<Map<String, String>> getJwks() {
+        if (algorithm.isHmac()) {
+            return Collections.emptyList();
+        }
+
+        long now = System.currentTimeMillis();
+        Map<String, ECPublicKey> publicKeys = new LinkedHashMap<>();
+
+        try {
+            for (Map.Entry<Object, Object> entry : stringRedisTemplate.opsForHash().entries(JWKS_KEY).entrySet()) {
+                JwtSigningKey key = decode((String) entry.getKey(), (String) entry.getValue());
+                if (!key.isExpired(now)) {
+                    publicKeys.put(key.getKeyId(), (ECPublicKey) key.getVerifyKey());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Fail to load published signing keys: {}", e.getMessage());
+        }
+
+        keys.values().stream()
+                .filter(key -> !key.isExpired(now))
+                .forEach(key -> publicKeys.putIfAbsent(key.getKeyId(), (ECPublicKey) key.getVerifyKey()));
+
+        List<Map<String, String>> jwks = new ArrayList<>();
+        publicKeys.forEach((keyId, publicKey) -> jwks.add(toJwk(keyId, publicKey)));
+        return jwks;
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec(EC_CURVE));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException("Fail to generate signing key", e);
+        }
+    }
+
+    /**
+     * 공개 key 를 redis 에 공유 후 다른 서버에 발행하고 만료된 key 정리
+     */
+    private void publish(JwtSigningKey key, long now) {
+        try {
+            String value = key.getExpiresAt() + DELIMITER
+                    + Base64.getEncoder().encodeToString(key.getVerifyKey().getEncoded());
+            stringRedisTemplate.opsForHash().put(JWKS_KEY, key.getKeyId(), value);
+            stringRedisTemplate.convertAndSend(JWKS_CHANNEL, key.getKeyId() + DELIMITER + value);
+
+            for (Map.Entry<Object, Object> entry : stringRedisTemplate.opsForHash().entries(JWKS_KEY).entrySet()) {
+                if (decode((String) entry.getKey(), (String) entry.getValue()).isExpired(now)) {
+                    stringRedisTemplate.opsForHash().delete(JWKS_KEY, entry.getKey());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Fail to publish signing key {}: {}", key.getKeyId(), e.getMessage());
+        }
+    }
+
+    /**
+     * redis 의 공개 key 를 모두 다시 읽어 캐시 (keyRefreshInterval 에 한 번만)
+     * 위조된 kid 마다 redis 를 조회하지 않도록, 간격 안에 들어온 모르는 kid 는 바로 거절한다.
+     */
+    private JwtSigningKey loadPublishedKey(String keyId) {
+        long now = System.currentTimeMillis();
+        long refreshedAt = keysRefreshedAt.get();
+
+        if (now - refreshedAt < keyRefreshInterval || !keysRefreshedAt.compareAndSet(refreshedAt, now)) {
+            return null;
+        }
+
+        try {
+            for (Map.Entry<Object, Object> entry : stringRedisTemplate.opsForHash().entries(JWKS_KEY).entrySet()) {
+                JwtSigningKey key = decode((String) entry.getKey(), (String) entry.getValue());
+                if (!key.isExpired(now)) {
+                    keys.putIfAbsent(key.getKeyId(), key);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Fail to load published signing keys: {}", e.getMessage());
+        }
+        return keys.get(keyId);
+    }
+
+    /**
+     * 다른 서버에서 교체된 key 수신 (kid:만료 시각:공개 key)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.indexOf(DELIMITER);
+
+        try {
+            JwtSigningKey key = decode(body.substring(0, index), body.substring(index + 1));
+            if (!key.isExpired(System.currentTimeMillis())) {
+                keys.putIfAbsent(key.getKeyId(), key);
+            }
+        } catch (Exception e) {
+            log.warn("Invalid signing key message: {}", e.getMessage());
+        }
+    }
+
+    private JwtSigningKey decode(String keyId, String value) throws Exception {
+        int index = value.indexOf(DELIMITER);
+        long expiresAt = Long.parseLong(value.substring(0, index));
+        byte[] encoded = Base64.getDecoder().decode(value.substring(index + 1));
+
+        Key publicKey = KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(encoded));
+        return new JwtSigningKey(keyId, algorithm, null, publicKey, expiresAt);
+    }
+
+    private Map<String, String> toJwk(String keyId, ECPublicKey publicKey) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        jwk.put("kid", keyId);
+        jwk.put("x", encodeCoordinate(publicKey.getW().getAffineX()));
+        jwk.put("y", encodeCoordinate(publicKey.getW().getAffineY()));
+        return jwk;
+    }
+
+    /**
+     * 좌표를 부호 없는 고정 길이 big-endian 으로 변환
+     */
+    private static String encodeCoordinate(BigInteger coordinate) {
+        byte[] bytes = coordinate.toByteArray();
+        byte[] fixed = new byte[EC_COORDINATE_LENGTH];
+
+        int length = Math.min(bytes.length, EC_COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - length, fixed, EC_COORDINATE_LENGTH - length, length);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+}
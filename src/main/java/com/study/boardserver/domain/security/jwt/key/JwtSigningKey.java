@@ -0,0 +1,32 @@
+package com.study.boardserver.domain.security.jwt.key;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Key;
+
+/**
+ * token 서명 / 검증 key (다른 서버가 만든 key 는 검증 key 만 가진다)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtSigningKey {
+
+    private final String keyId;
+
+    private final SignatureAlgorithm algorithm;
+
+    private final Key signingKey;
+
+    private final Key verifyKey;
+
+    /**
+     * 이 key 로 서명한 token 이 모두 만료되는 시각
+     */
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return expiresAt < now;
+    }
+}
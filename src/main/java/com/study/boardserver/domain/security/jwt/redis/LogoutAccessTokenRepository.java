@@ -1,6 +0,0 @@
-package com.study.boardserver.domain.security.jwt.redis;
-
-import org.springframework.data.repository.CrudRepository;
-
-public interface LogoutAccessTokenRepository extends CrudRepository<LogoutAccessToken, String> {
-}
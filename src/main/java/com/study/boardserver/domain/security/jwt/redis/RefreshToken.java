@@ -1,21 +0,0 @@
-package com.study.boardserver.domain.security.jwt.redis;
-
-import lombok.Builder;
-import lombok.Getter;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
-
-@Getter
-@Builder
-@RedisHash("refreshToken")
-public class RefreshToken {
-
-    @Id
-    private String id;
-
-    private String refreshToken;
-
-    @TimeToLive
-    private Long expiration;
-}
@@ -1,7 +0,0 @@
-package com.study.boardserver.domain.security.jwt.redis;
-
-import org.springframework.data.repository.CrudRepository;
-
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
-}
-
@@ -0,0 +1,197 @@
+package com.study.boardserver.domain.security.jwt.redis;
+
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.global.redis.TokenType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 회원 기기(session)별 refresh token 저장소
+ *
+ * refreshTokenId:{email}:{sessionId} : 현재 유효한 refresh token 의 jti
+ * refreshTokenId:{email}:{sessionId}:previous : 직전에 교체된 jti (유예 시간 동안만 유지, 동시 교체 요청 허용)
+ * sessions:{email} : session index (sorted set, score : 만료 시각), 회원당 session 수 제한에 사용
+ * tokenVersion:{email} : token 세대 번호 (TokenVersionService 가 관리, 교체 시 세대가 다르면 거절)
+ *
+ * session id 가 없는 이전 token 은 refreshTokenId:{email} 와 @RedisHash(refreshToken:{email}) 를 사용한다.
+ * script 는 KEYS 로 전달한 key 만 사용하고, 제한을 넘어 밀려난 session 의 key 는 script 가 반환한 id 로 삭제한다.
+ */
+@Component
+public class RefreshTokenStore {
+
+    private static final int MAX_SESSIONS = 10;
+    private static final String LEGACY_SESSION_ID = "";
+    private static final String LEGACY_KEYSPACE = "refreshToken";
+    private static final String LEGACY_KEY_PREFIX = LEGACY_KEYSPACE + ":";
+    private static final String LEGACY_PHANTOM_SUFFIX = ":phantom";
+
+    /**
+     * session 저장 후 만료된 session 정리, 제한을 넘으면 만료가 가장 가까운 session 부터 index 에서 제거하고 반환
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<String>> SAVE_SCRIPT = new DefaultRedisScript(
+            "redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('ZADD', KEYS[2], ARGV[4], ARGV[3]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]) " +
+            "local overflow = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[6]) " +
+            "if overflow <= 0 then return {} end " +
+            "local oldest = redis.call('ZRANGE', KEYS[2], 0, overflow - 1) " +
+            "redis.call('ZREM', KEYS[2], unpack(oldest)) " +
+            "return oldest", List.class);
+
+    /**
+     * 세대 번호가 같고 제시된 token 이 현재 token 이면 새 token 으로 교체하고 새 jti 반환
+     * 직전에 교체된 token 이면 (같은 기기의 동시 요청) 유예 시간 동안 현재 jti 반환
+     * 저장된 token 이 없거나 세대가 다르면 (0), 다른 token 이면 이미 교체된 token 의 재사용으로 보고 session 삭제 (-1)
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[5]) or '0') ~= ARGV[6] then return '0' end " +
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if not current then " +
+            "  if redis.call('HGET', KEYS[2], 'refreshToken') ~= ARGV[2] then return '0' end " +
+            "  redis.call('DEL', KEYS[2], KEYS[3]) " +
+            "  redis.call('SREM', KEYS[4], ARGV[5]) " +
+            "  current = ARGV[1] " +
+            "end " +
+            "if current ~= ARGV[1] then " +
+            "  if redis.call('GET', KEYS[7]) == ARGV[1] then return current end " +
+            "  redis.call('DEL', KEYS[1], KEYS[7]) " +
+            "  if ARGV[7] ~= '' then redis.call('ZREM', KEYS[6], ARGV[7]) end " +
+            "  return '-1' " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) " +
+            "if tonumber(ARGV[9]) > 0 then redis.call('SET', KEYS[7], ARGV[1], 'PX', ARGV[9]) end " +
+            "if ARGV[7] ~= '' then " +
+            "  redis.call('ZADD', KEYS[6], ARGV[8], ARGV[7]) " +
+            "  redis.call('PEXPIRE', KEYS[6], ARGV[4]) " +
+            "end " +
+            "return ARGV[3]", String.class);
+
+    private static final String NOT_EXIST_RESULT = "0";
+    private static final String REUSED_RESULT = "-1";
+    private static final String PREVIOUS_SUFFIX = ":previous";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long gracePeriod;
+
+    public RefreshTokenStore(StringRedisTemplate stringRedisTemplate,
+                             @Value("${spring.jwt.refresh-grace-period:10000}") long gracePeriod) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.gracePeriod = gracePeriod;
+    }
+
+    public enum RotateResult {
+        ROTATED, NOT_EXIST, REUSED
+    }
+
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Rotation {
+
+        private final RotateResult result;
+
+        /**
+         * 새로 발급할 refresh token 의 jti (유예 시간 안의 동시 요청은 먼저 교체된 jti)
+         */
+        private final String tokenId;
+
+        private static Rotation of(String result) {
+            if (result == null || NOT_EXIST_RESULT.equals(result)) {
+                return new Rotation(RotateResult.NOT_EXIST, null);
+            }
+            if (REUSED_RESULT.equals(result)) {
+                return new Rotation(RotateResult.REUSED, null);
+            }
+            return new Rotation(RotateResult.ROTATED, result);
+        }
+    }
+
+    /**
+     * 새 session 의 refresh token 저장, 제한을 넘어 밀려난 session 의 token 삭제
+     */
+    public void save(String email, String sessionId, String tokenId, long expiration) {
+        long now = System.currentTimeMillis();
+
+        List<String> evicted = stringRedisTemplate.execute(SAVE_SCRIPT,
+                Arrays.asList(sessionKey(email, sessionId), TokenType.SESSION_INDEX.key(email)),
+                tokenId, String.valueOf(expiration), sessionId, String.valueOf(now + expiration),
+                String.valueOf(now), String.valueOf(MAX_SESSIONS));
+
+        if (evicted == null || evicted.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(evicted.size() * 2);
+        for (String evictedSessionId : evicted) {
+            keys.add(sessionKey(email, evictedSessionId));
+            keys.add(sessionKey(email, evictedSessionId) + PREVIOUS_SUFFIX);
+        }
+        stringRedisTemplate.delete(keys);
+    }
+
+    /**
+     * refresh token 교체 (한 번의 script 실행으로 비교 후 교체, session id 와 세대 번호는 유지)
+     */
+    public Rotation rotate(ParsedToken refreshToken, String newTokenId, long expiration) {
+        String email = refreshToken.getEmail();
+        String sessionId = sessionId(refreshToken.getSessionId());
+
+        List<String> keys = Arrays.asList(sessionKey(email, sessionId), LEGACY_KEY_PREFIX + email,
+                LEGACY_KEY_PREFIX + email + LEGACY_PHANTOM_SUFFIX, LEGACY_KEYSPACE,
+                TokenType.TOKEN_VERSION.key(email), TokenType.SESSION_INDEX.key(email),
+                sessionKey(email, sessionId) + PREVIOUS_SUFFIX);
+
+        return Rotation.of(stringRedisTemplate.execute(ROTATE_SCRIPT, keys,
+                refreshToken.getTokenId(), refreshToken.getToken(), newTokenId, String.valueOf(expiration), email,
+                String.valueOf(refreshToken.getTokenVersion()), sessionId,
+                String.valueOf(System.currentTimeMillis() + expiration), String.valueOf(gracePeriod)));
+    }
+
+    /**
+     * 한 기기(session)의 refresh token 삭제
+     */
+    public void delete(String email, String sessionId) {
+        if (sessionId == null) {
+            stringRedisTemplate.delete(Arrays.asList(sessionKey(email, LEGACY_SESSION_ID),
+                    sessionKey(email, LEGACY_SESSION_ID) + PREVIOUS_SUFFIX,
+                    LEGACY_KEY_PREFIX + email, LEGACY_KEY_PREFIX + email + LEGACY_PHANTOM_SUFFIX));
+            stringRedisTemplate.opsForSet().remove(LEGACY_KEYSPACE, email);
+            return;
+        }
+
+        stringRedisTemplate.delete(Arrays.asList(sessionKey(email, sessionId), sessionKey(email, sessionId) + PREVIOUS_SUFFIX));
+        stringRedisTemplate.opsForZSet().remove(TokenType.SESSION_INDEX.key(email), sessionId);
+    }
+
+    /**
+     * 모든 기기 session index 삭제 (세대 번호 증가 후 호출)
+     *
+     * 남은 session key 는 세대가 달라 사용할 수 없고 TTL 로 정리된다.
+     */
+    public void deleteAll(String email) {
+        stringRedisTemplate.delete(TokenType.SESSION_INDEX.key(email));
+    }
+
+    private static String sessionId(String sessionId) {
+        return sessionId == null ? LEGACY_SESSION_ID : sessionId;
+    }
+
+    /**
+     * session id 가 없으면 이전 방식의 회원별 key
+     */
+    private static String sessionKey(String email, String sessionId) {
+        String key = TokenType.REFRESH_TOKEN.key(email);
+        return sessionId.isEmpty() ? key : key + ":" + sessionId;
+    }
+}
@@ -0,0 +1,191 @@
+package com.study.boardserver.domain.security.jwt.revocation;
+
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.global.redis.TokenStore;
+import com.study.boardserver.global.redis.TokenType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 access token 관리
+ *
+ * token 전체 문자열 대신 jti 로 저장하고 조회한다.
+ * redis 에는 token 별 key(SET PX)와 동기화용 sorted set(score : 만료 시각)을 함께 저장한다.
+ * 로그아웃 시 redis 에 저장한 뒤 channel 로 발행하고, 모든 서버는 수신한 token 을 로컬 캐시에 반영한다.
+ * 로그아웃 여부 확인은 로컬 캐시(ConcurrentHashMap) 조회 한 번으로 끝난다.
+ *
+ * 일관성: 로그아웃을 처리한 서버에는 즉시 반영되고, 다른 서버에는 pub/sub 전달 지연(보통 수 ms) 후 반영된다.
+ * 연결 끊김 등으로 메시지를 놓친 경우에도 sync-interval 마다 redis 전체와 동기화하므로
+ * 다른 서버에서 로그아웃된 token 이 허용될 수 있는 최대 시간은 sync-interval 이다.
+ *
+ * jti 가 없는 이전 token 은 이전 형식(@RedisHash, logoutAccessToken:{token 원문})으로 로그아웃됐을 수 있다.
+ * LegacyRedisHashMigration 이 실패했거나 끝나기 전에 들어온 요청에서도 거절하기 위해 첫 동기화 때 남아 있는
+ * 이전 형식 key 를 token hash 로 로컬 캐시에 반영하고, 첫 동기화 전에는 이전 key 를 redis 에서 직접 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+
+    public static final String LOGOUT_CHANNEL = "logoutAccessToken";
+    private static final String INDEX_KEY = "logoutTokens";
+    private static final String DELIMITER = " ";
+    private static final String LEGACY_KEYSPACE = "logoutAccessToken";
+    private static final String LEGACY_KEY_PREFIX = LEGACY_KEYSPACE + ":";
+
+    private final TokenStore tokenStore;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 로그아웃 token id -> 만료 시각
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * redis 와 한 번이라도 동기화되기 전에는 로컬 캐시를 신뢰하지 않는다
+     */
+    private volatile boolean synchronizedOnce;
+
+    @PostConstruct
+    protected void init() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(LOGOUT_CHANNEL));
+    }
+
+    /**
+     * access token 로그아웃 처리 후 다른 서버에 전파
+     */
+    public void revoke(ParsedToken token) {
+        revoke(token.getTokenId(), token.getEmail(), token.getExpiration().getTime());
+    }
+
+    /**
+     * token id 로 로그아웃 처리 (이전 형식 데이터 이전에도 사용)
+     */
+    public void revoke(String tokenId, String email, long expiresAt) {
+        long expiration = expiresAt - System.currentTimeMillis();
+        if (expiration <= 0) {
+            return;
+        }
+
+        apply(tokenId, expiresAt);
+
+        tokenStore.save(TokenType.LOGOUT_ACCESS_TOKEN, tokenId, email, expiration);
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, tokenId, expiresAt);
+        stringRedisTemplate.convertAndSend(LOGOUT_CHANNEL, tokenId + DELIMITER + expiresAt);
+    }
+
+    /**
+     * access token 로그아웃 여부
+     */
+    public boolean isRevoked(ParsedToken token) {
+        if (!synchronizedOnce) {
+            return (token.getClaims().getId() == null && isLegacyRevoked(token))
+                    || tokenStore.exists(TokenType.LOGOUT_ACCESS_TOKEN, token.getTokenId());
+        }
+        return revokedTokens.containsKey(token.getTokenId());
+    }
+
+    /**
+     * 다른 서버에서 발행한 로그아웃 token 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int index = body.lastIndexOf(DELIMITER);
+
+        try {
+            apply(body.substring(0, index), Long.parseLong(body.substring(index + 1)));
+        } catch (RuntimeException e) {
+            log.warn("Invalid logout token message: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 시작 시 및 주기적으로 redis 의 로그아웃 token 을 로컬 캐시에 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${spring.jwt.revocation.sync-interval:10000}",
+            initialDelayString = "${spring.jwt.revocation.sync-interval:10000}")
+    public void synchronize() {
+        try {
+            subscribe();
+            long now = System.currentTimeMillis();
+            ZSetOperations<String, String> index = stringRedisTemplate.opsForZSet();
+
+            index.removeRangeByScore(INDEX_KEY, 0, now);
+            Set<ZSetOperations.TypedTuple<String>> tokens = index.rangeByScoreWithScores(INDEX_KEY, now, Double.MAX_VALUE);
+
+            if (tokens != null) {
+                tokens.forEach(token -> apply(token.getValue(), token.getScore().longValue()));
+            }
+            if (!synchronizedOnce) {
+                loadLegacyTokens(now);
+            }
+
+            revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+            synchronizedOnce = true;
+        } catch (Exception e) {
+            log.warn("Fail to synchronize logout tokens: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 구독 실패 시 다음 동기화 때 다시 시도
+     */
+    private void subscribe() {
+        if (redisMessageListenerContainer.isRunning()) {
+            return;
+        }
+
+        try {
+            redisMessageListenerContainer.start();
+        } catch (RuntimeException e) {
+            redisMessageListenerContainer.stop();
+            throw e;
+        }
+    }
+
+    /**
+     * 이전 형식으로 남아 있는 로그아웃 token 을 token hash 와 남은 유효 시간(PTTL)으로 반영
+     */
+    private void loadLegacyTokens(long now) {
+        Set<String> ids = stringRedisTemplate.opsForSet().members(LEGACY_KEYSPACE);
+        if (ids == null) {
+            return;
+        }
+
+        for (String id : ids) {
+            Long expiration = stringRedisTemplate.getExpire(LEGACY_KEY_PREFIX + id, TimeUnit.MILLISECONDS);
+            if (expiration != null && expiration > 0) {
+                // jti 도입 전에는 token 원문이 id 였다
+                apply(id.indexOf('.') >= 0 ? ParsedToken.hash(id) : id, now + expiration);
+            }
+        }
+    }
+
+    private boolean isLegacyRevoked(ParsedToken token) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(LEGACY_KEY_PREFIX + token.getToken()));
+    }
+
+    private void apply(String tokenId, long expiresAt) {
+        revokedTokens.put(tokenId, expiresAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.study.boardserver.domain.security.jwt.revocation;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.study.boardserver.global.redis.TokenStore;
+import com.study.boardserver.global.redis.TokenType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 token 세대 번호 관리
+ *
+ * token 발급 시 현재 세대 번호를 claim 으로 넣고, 인증 시 claim 이 현재 세대보다 작으면 무효로 본다.
+ * 세대 번호를 1 증가시키면 회원이 가진 모든 access / refresh token 이 한 번에 무효가 된다.
+ *
+ * 세대 번호는 로컬 캐시에서 조회하고, 증가 시 channel 로 발행해 모든 서버의 캐시를 비운다.
+ * 메시지를 놓친 경우에도 cache-ttl 이 지나면 redis 에서 다시 읽는다.
+ */
+@Component
+public class TokenVersionService implements MessageListener {
+
+    public static final String VERSION_CHANNEL = "tokenVersion";
+
+    private final TokenStore tokenStore;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LoadingCache<String, Long> versions;
+
+    public TokenVersionService(TokenStore tokenStore, StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer redisMessageListenerContainer,
+                               @Value("${spring.jwt.token-version.cache-ttl:10000}") long cacheTtl,
+                               @Value("${spring.jwt.token-version.maximum-size:10000}") long maximumSize) {
+        this.tokenStore = tokenStore;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(cacheTtl, TimeUnit.MILLISECONDS)
+                .build(this::load);
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(VERSION_CHANNEL));
+    }
+
+    /**
+     * 현재 token 세대 번호 (없으면 0)
+     */
+    public long getVersion(String email) {
+        return versions.get(email);
+    }
+
+    /**
+     * 발급에 사용할 세대 번호 (캐시를 거치지 않고 redis 에서 읽은 뒤 캐시 갱신)
+     */
+    public long loadVersion(String email) {
+        long version = load(email);
+        versions.put(email, version);
+        return version;
+    }
+
+    /**
+     * 회원의 모든 token 무효화
+     */
+    public void increment(String email) {
+        incrementAll(Collections.singletonList(email));
+    }
+
+    /**
+     * 여러 회원의 모든 token 을 한 번에 무효화 (INCR / PUBLISH 를 pipeline 으로 전송)
+     */
+    public int incrementAll(Collection<String> emails) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            for (String email : emails) {
+                stringConnection.incr(TokenType.TOKEN_VERSION.key(email));
+                stringConnection.publish(VERSION_CHANNEL, email);
+            }
+            return null;
+        });
+
+        versions.invalidateAll(emails);
+        return emails.size();
+    }
+
+    /**
+     * 다른 서버에서 증가시킨 세대 번호 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        versions.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private Long load(String email) {
+        return tokenStore.find(TokenType.TOKEN_VERSION, email)
+                .map(Long::parseLong)
+                .orElse(0L);
+    }
+}
@@ -0,0 +1,260 @@
+package com.study.boardserver.domain.security.oauth2.repository;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * OAuth2AuthorizationRequest 쿠키 값 변환
+ *
+ * 형식 : base64url(flag + JSON) "." base64url(HMAC-SHA256)
+ * flag 가 1 이면 JSON 을 deflate 로 압축한 것이다. (압축해서 더 짧아지는 경우에만 압축)
+ * authorizationRequestUri 는 저장하지 않고 나머지 값으로 다시 만든다.
+ * 서명이 맞지 않거나 만료된 값, authorization_code 가 아닌 grant type 은 null 로 처리한다.
+ * 서명 key 는 JWT 서명 key 와 분리된 전용 값(oauth.cookie-secret)을 사용한다.
+ */
+@Slf4j
+@Component
+public class AuthorizationRequestCookieCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final char DELIMITER = '.';
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+    private static final int COMPRESS_THRESHOLD = 256;
+    private static final int MAX_INFLATED_SIZE = 16 * 1024;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec secretKey;
+
+    public AuthorizationRequestCookieCodec(ObjectMapper objectMapper,
+                                           @Value("${oauth.cookie-secret}") String secret) {
+        this.objectMapper = objectMapper;
+        this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    public String encode(OAuth2AuthorizationRequest authorizationRequest, int expireSeconds) {
+        Payload payload = Payload.of(authorizationRequest, System.currentTimeMillis() / 1000 + expireSeconds);
+
+        try {
+            byte[] body = pack(objectMapper.writeValueAsBytes(payload));
+            return ENCODER.encodeToString(body) + DELIMITER + ENCODER.encodeToString(sign(body));
+        } catch (IOException e) {
+            throw new IllegalStateException("Fail to encode authorization request", e);
+        }
+    }
+
+    public OAuth2AuthorizationRequest decode(String value) {
+        int index = value.indexOf(DELIMITER);
+        if (index < 0) {
+            return null;
+        }
+
+        try {
+            byte[] body = DECODER.decode(value.substring(0, index));
+            byte[] signature = DECODER.decode(value.substring(index + 1));
+
+            if (body.length == 0 || !MessageDigest.isEqual(sign(body), signature)) {
+                log.warn("Invalid authorization request cookie signature");
+                return null;
+            }
+
+            Payload payload = objectMapper.readValue(unpack(body), Payload.class);
+            if (payload.getExpiresAt() < System.currentTimeMillis() / 1000) {
+                return null;
+            }
+            return toAuthorizationRequest(payload);
+        } catch (IllegalArgumentException | IOException | DataFormatException e) {
+            log.warn("Invalid authorization request cookie: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 서명 / 압축 없이 JSON 으로 변환 (서버 저장소용, 만료는 저장소 TTL 로 처리)
+     */
+    public String toJson(OAuth2AuthorizationRequest authorizationRequest) {
+        try {
+            return objectMapper.writeValueAsString(Payload.of(authorizationRequest, 0));
+        } catch (IOException e) {
+            throw new IllegalStateException("Fail to encode authorization request", e);
+        }
+    }
+
+    public OAuth2AuthorizationRequest fromJson(String json) {
+        try {
+            return toAuthorizationRequest(objectMapper.readValue(json, Payload.class));
+        } catch (IOException e) {
+            log.warn("Invalid authorization request: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static OAuth2AuthorizationRequest toAuthorizationRequest(Payload payload) {
+        if (!AuthorizationGrantType.AUTHORIZATION_CODE.getValue().equals(payload.getGrantType())) {
+            log.warn("Unsupported authorization grant type: {}", payload.getGrantType());
+            return null;
+        }
+
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(payload.getAuthorizationUri())
+                .clientId(payload.getClientId())
+                .redirectUri(payload.getRedirectUri())
+                .scopes(payload.getScopes())
+                .state(payload.getState())
+                .additionalParameters(payload.getAdditionalParameters())
+                .attributes(payload.getAttributes())
+                .build();
+    }
+
+    private byte[] sign(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(body);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] pack(byte[] json) {
+        if (json.length >= COMPRESS_THRESHOLD) {
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+            try {
+                deflater.setInput(json);
+                deflater.finish();
+
+                byte[] buffer = new byte[json.length];
+                int length = deflater.deflate(buffer);
+
+                if (deflater.finished() && length + 1 < json.length) {
+                    return withFlag(DEFLATED, buffer, length);
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+        return withFlag(PLAIN, json, json.length);
+    }
+
+    /**
+     * 압축 해제 크기 제한 (MAX_INFLATED_SIZE)
+     */
+    private static byte[] unpack(byte[] body) throws DataFormatException {
+        if (body[0] == PLAIN) {
+            return Arrays.copyOfRange(body, 1, body.length);
+        }
+        if (body[0] != DEFLATED) {
+            throw new DataFormatException("Unknown cookie format");
+        }
+
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(body, 1, body.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length * 4);
+            byte[] buffer = new byte[1024];
+
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated cookie");
+                }
+
+                out.write(buffer, 0, length);
+                if (out.size() > MAX_INFLATED_SIZE) {
+                    throw new DataFormatException("Cookie too large");
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] withFlag(byte flag, byte[] data, int length) {
+        byte[] body = new byte[length + 1];
+        body[0] = flag;
+        System.arraycopy(data, 0, body, 1, length);
+        return body;
+    }
+
+    /**
+     * 저장하는 값 (짧은 key 사용)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    static class Payload {
+
+        @JsonProperty("u")
+        private String authorizationUri;
+
+        @JsonProperty("g")
+        private String grantType;
+
+        @JsonProperty("c")
+        private String clientId;
+
+        @JsonProperty("r")
+        private String redirectUri;
+
+        @JsonProperty("s")
+        @JsonDeserialize(as = LinkedHashSet.class)
+        private Set<String> scopes;
+
+        @JsonProperty("t")
+        private String state;
+
+        @JsonProperty("p")
+        private Map<String, Object> additionalParameters;
+
+        @JsonProperty("a")
+        private Map<String, Object> attributes;
+
+        @JsonProperty("e")
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        private long expiresAt;
+
+        static Payload of(OAuth2AuthorizationRequest authorizationRequest, long expiresAt) {
+            return new Payload(
+                    authorizationRequest.getAuthorizationUri(),
+                    authorizationRequest.getGrantType().getValue(),
+                    authorizationRequest.getClientId(),
+                    authorizationRequest.getRedirectUri(),
+                    authorizationRequest.getScopes(),
+                    authorizationRequest.getState(),
+                    authorizationRequest.getAdditionalParameters(),
+                    authorizationRequest.getAttributes(),
+                    expiresAt);
+        }
+    }
+}
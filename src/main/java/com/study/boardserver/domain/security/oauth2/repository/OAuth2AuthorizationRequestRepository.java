@@ -0,0 +1,39 @@
+package com.study.boardserver.domain.security.oauth2.repository;
+
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * oauth2 인증 요청 저장소
+ *
+ * oauth.authorization-request-store 값으로 선택 (cookie : 쿠키에 저장 (기본), redis : redis 에 저장)
+ */
+public interface OAuth2AuthorizationRequestRepository extends AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
+    String REDIRECT_URI_PARAM_COOKIE_NAME = "redirect_uri";
+    int COOKIE_EXPIRE_SECONDS = 60 * 60;
+
+    /**
+     * AuthorizationRequestRepository 의 추상 메소드라 남겨두고 removeAuthorizationRequest(request, response) 로 위임
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    default OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request) {
+        return removeAuthorizationRequest(request, null);
+    }
+
+    /**
+     * OAuth2LoginAuthenticationFilter에서 사용
+     */
+    @Override
+    OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * 인증 요청 시 생성된 쿠키 (및 저장된 인증 요청) 삭제
+     */
+    void removeAuthorizationRequestCookies(HttpServletRequest request, HttpServletResponse response);
+}
@@ -0,0 +1,96 @@
+package com.study.boardserver.domain.security.oauth2.repository;
+
+import com.study.boardserver.domain.security.util.CookieUtil;
+import com.study.boardserver.global.redis.TokenStore;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.stereotype.Repository;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Optional;
+
+import static com.study.boardserver.global.redis.TokenType.OAUTH2_AUTHORIZATION_REQUEST;
+
+/**
+ * oauth2 인증 요청을 redis 에 저장 (쿠키에는 임의의 key 만 저장)
+ *
+ * 저장된 인증 요청은 한 번 꺼내면 삭제된다. (조회와 삭제를 한 번에 실행해 같은 요청을 두 번 꺼낼 수 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "oauth", name = "authorization-request-store", havingValue = "redis")
+public class RedisAuthorizationRequestRepository implements OAuth2AuthorizationRequestRepository {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int KEY_BYTES = 16;
+
+    private final TokenStore tokenStore;
+    private final AuthorizationRequestCookieCodec authorizationRequestCookieCodec;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        return getKey(request)
+                .flatMap(key -> tokenStore.find(OAUTH2_AUTHORIZATION_REQUEST, key))
+                .map(authorizationRequestCookieCodec::fromJson)
+                .orElse(null);
+    }
+
+    /**
+     * OAuth2AuthorizationRequestRedirectFilter에서 사용
+     */
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest, HttpServletRequest request, HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            removeAuthorizationRequestCookies(request, response);
+            return;
+        }
+
+        String key = generateKey();
+        tokenStore.save(OAUTH2_AUTHORIZATION_REQUEST, key,
+                authorizationRequestCookieCodec.toJson(authorizationRequest), COOKIE_EXPIRE_SECONDS * 1000L);
+
+        CookieUtil.addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, key, COOKIE_EXPIRE_SECONDS);
+        String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
+
+        if (StringUtils.isNotBlank(redirectUriAfterLogin)) {
+            CookieUtil.addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME, redirectUriAfterLogin, COOKIE_EXPIRE_SECONDS);
+        }
+    }
+
+    /**
+     * OAuth2LoginAuthenticationFilter에서 사용
+     */
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        return getKey(request)
+                .flatMap(key -> tokenStore.findAndDelete(OAUTH2_AUTHORIZATION_REQUEST, key))
+                .map(authorizationRequestCookieCodec::fromJson)
+                .orElse(null);
+    }
+
+    @Override
+    public void removeAuthorizationRequestCookies(HttpServletRequest request, HttpServletResponse response) {
+        getKey(request).ifPresent(key -> tokenStore.delete(OAUTH2_AUTHORIZATION_REQUEST, key));
+
+        CookieUtil.deleteCookie(request, response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
+        CookieUtil.deleteCookie(request, response, REDIRECT_URI_PARAM_COOKIE_NAME);
+    }
+
+    private static Optional<String> getKey(HttpServletRequest request) {
+        return CookieUtil.getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
+                .map(Cookie::getValue)
+                .filter(StringUtils::isNotBlank);
+    }
+
+    private static String generateKey() {
+        byte[] bytes = new byte[KEY_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,6 +1,7 @@
 package com.study.boardserver.domain.security.service;
 
 import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.event.MemberUpdatedEvent;
 import com.study.boardserver.domain.member.repository.MemberRepository;
 import com.study.boardserver.domain.member.type.MemberRole;
 import com.study.boardserver.domain.member.type.MemberStatus;
@@ -10,9 +11,9 @@ import com.study.boardserver.domain.security.oauth2.info.OAuth2UserInfoFactory;
 import com.study.boardserver.domain.security.oauth2.type.ProviderType;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
-import lombok.RequiredArgsConstructor;
-
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -21,6 +22,7 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestOperations;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -28,12 +30,19 @@ import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private static final String PASSWORD = "password";
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CustomOAuth2UserService(MemberRepository memberRepository, ApplicationEventPublisher eventPublisher,
+                                   @Qualifier("oAuth2UserInfoRestOperations") RestOperations restOperations) {
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        setRestOperations(restOperations);
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -70,7 +79,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             member = signUp(userInfo, providerType);
         }
 
-        return new CustomUserDetails(member, oAuth2User.getAttributes());
+        return new CustomUserDetails(member, userInfo);
     }
 
 
@@ -102,7 +111,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         if (!Objects.equals(member.getImgUrl(), userInfo.getImageUrl())) {
             member.setImgUrl(userInfo.getImageUrl());
+            memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberUpdatedEvent(member.getEmail()));
         }
-        memberRepository.save(member);
     }
 }
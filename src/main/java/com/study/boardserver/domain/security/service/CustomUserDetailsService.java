@@ -1,28 +1,86 @@
 package com.study.boardserver.domain.security.service;
 
-import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.event.MemberUpdatedEvent;
 import com.study.boardserver.domain.member.repository.MemberRepository;
 import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.domain.security.MemberSnapshot;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+
+import static com.study.boardserver.global.config.CacheConfig.MEMBER_CACHE;
+
+/**
+ * 회원 조회 (로컬 캐시에 변경 불가능한 회원 정보를 저장)
+ *
+ * 회원 정보 변경 시 channel 로 발행해 모든 서버의 캐시를 비운다.
+ * 메시지를 놓친 경우에도 캐시 TTL(spring.cache.caffeine.spec) 이 지나면 DB 에서 다시 읽는다.
+ */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, MessageListener {
+
+    public static final String MEMBER_EVICT_CHANNEL = "memberEvict";
 
     private final MemberRepository memberRepository;
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private Cache memberCache;
+
+    @PostConstruct
+    protected void init() {
+        memberCache = cacheManager.getCache(MEMBER_CACHE);
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(MEMBER_EVICT_CHANNEL));
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
-        Member member = memberRepository.findByEmail(username)
-                .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.MEMBER_NOT_FOUND));
+        MemberSnapshot member = memberCache.get(username, MemberSnapshot.class);
 
-        return new CustomUserDetails(member);
+        if (member == null) {
+            member = memberRepository.findByEmail(username)
+                    .map(MemberSnapshot::from)
+                    .orElseThrow(() -> new MemberAuthException(MemberAuthErrorCode.MEMBER_NOT_FOUND));
+            memberCache.put(username, member);
+        }
+
+        return new CustomUserDetails(member.toMember());
+    }
+
+    /**
+     * 회원 정보 변경이 commit 된 뒤 캐시를 비우고 다른 서버에 전파
+     * (commit 전에 비우면 그 사이 다른 요청이 변경 전 값을 다시 캐시할 수 있음, transaction 밖에서 발행하면 바로 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evictMember(MemberUpdatedEvent event) {
+        memberCache.evict(event.getEmail());
+        stringRedisTemplate.convertAndSend(MEMBER_EVICT_CHANNEL, event.getEmail());
+    }
+
+    /**
+     * 다른 서버에서 변경된 회원 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        memberCache.evict(new String(message.getBody(), StandardCharsets.UTF_8));
     }
 }
@@ -0,0 +1,14 @@
+package com.study.boardserver.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로컬 캐시 설정 (캐시 크기, TTL 은 spring.cache.caffeine.spec 에서 관리)
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String MEMBER_CACHE = "member";
+}
@@ -6,10 +6,12 @@ import lombok.Getter;
 @Getter
 public class BoardException extends RuntimeException{
 
+    private static final long serialVersionUID = 1L;
+
     private final BoardErrorCode errorCode;
 
     public BoardException(BoardErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
@@ -6,10 +6,12 @@ import lombok.Getter;
 @Getter
 public class ImageException extends RuntimeException {
 
+    private static final long serialVersionUID = 1L;
+
     private final ImageErrorCode errorCode;
 
     public ImageException(ImageErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
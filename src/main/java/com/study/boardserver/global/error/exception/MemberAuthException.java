@@ -6,10 +6,12 @@ import lombok.Getter;
 @Getter
 public class MemberAuthException extends RuntimeException{
 
+    private static final long serialVersionUID = 1L;
+
     private final MemberAuthErrorCode errorCode;
 
     public MemberAuthException(MemberAuthErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
@@ -6,10 +6,12 @@ import lombok.Getter;
 @Getter
 public class MemberException extends RuntimeException{
 
+    private static final long serialVersionUID = 1L;
+
     private final MemberErrorCode errorCode;
 
     public MemberException(MemberErrorCode errorCode) {
-        super(errorCode.getMessage());
+        super(errorCode.getMessage(), null, false, false);
         this.errorCode = errorCode;
     }
 }
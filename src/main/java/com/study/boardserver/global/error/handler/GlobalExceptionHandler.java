@@ -5,6 +5,8 @@ import com.study.boardserver.global.error.exception.ImageException;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.exception.MemberException;
 import com.study.boardserver.global.error.response.ErrorResponse;
+import com.study.boardserver.global.error.response.ErrorResponseWriter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -17,17 +19,14 @@ import java.util.Objects;
 import static com.study.boardserver.global.error.type.ImageErrorCode.EXCEEDED_IMAGE_SIZE_LIMIT;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(MemberException.class)
-    public ResponseEntity<ErrorResponse> handleMemberException(MemberException e) {
-
-        ErrorResponse response = ErrorResponse.builder()
-                .status(e.getErrorCode().getStatus().value())
-                .message(e.getMessage())
-                .build();
+    private final ErrorResponseWriter errorResponseWriter;
 
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+    @ExceptionHandler(MemberException.class)
+    public ResponseEntity<byte[]> handleMemberException(MemberException e) {
+        return errorResponseWriter.toResponseEntity(e.getErrorCode());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -42,46 +41,22 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler(MemberAuthException.class)
-    public ResponseEntity<ErrorResponse> handleMemberAuthException(MemberAuthException e) {
-
-        ErrorResponse response = ErrorResponse.builder()
-                .status(e.getErrorCode().getStatus().value())
-                .message(e.getMessage())
-                .build();
-
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+    public ResponseEntity<byte[]> handleMemberAuthException(MemberAuthException e) {
+        return errorResponseWriter.toResponseEntity(e.getErrorCode());
     }
 
     @ExceptionHandler(ImageException.class)
-    public ResponseEntity<ErrorResponse> handleImageException(ImageException e) {
-
-        ErrorResponse response = ErrorResponse.builder()
-                .status(e.getErrorCode().getStatus().value())
-                .message(e.getMessage())
-                .build();
-
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+    public ResponseEntity<byte[]> handleImageException(ImageException e) {
+        return errorResponseWriter.toResponseEntity(e.getErrorCode());
     }
 
     @ExceptionHandler(MaxUploadSizeExceededException.class)
-    public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException() {
-
-        ErrorResponse response = ErrorResponse.builder()
-                .status(EXCEEDED_IMAGE_SIZE_LIMIT.getStatus().value())
-                .message(EXCEEDED_IMAGE_SIZE_LIMIT.getMessage())
-                .build();
-
-        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    public ResponseEntity<byte[]> handleMaxUploadSizeExceededException() {
+        return errorResponseWriter.toResponseEntity(EXCEEDED_IMAGE_SIZE_LIMIT);
     }
 
     @ExceptionHandler(BoardException.class)
-    public ResponseEntity<ErrorResponse> handleBoardException(BoardException e) {
-
-        ErrorResponse response = ErrorResponse.builder()
-                .status(e.getErrorCode().getStatus().value())
-                .message(e.getMessage())
-                .build();
-
-        return ResponseEntity.status(e.getErrorCode().getStatus()).body(response);
+    public ResponseEntity<byte[]> handleBoardException(BoardException e) {
+        return errorResponseWriter.toResponseEntity(e.getErrorCode());
     }
 }
@@ -0,0 +1,89 @@
+package com.study.boardserver.global.error.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import com.study.boardserver.global.error.type.ErrorCode;
+import com.study.boardserver.global.error.type.ImageErrorCode;
+import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import com.study.boardserver.global.error.type.MemberErrorCode;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * error code 별 오류 응답 (JSON 을 시작 시 한 번만 직렬화하고 byte 배열을 그대로 응답에 쓴다)
+ */
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private static final List<Class<? extends ErrorCode>> ERROR_CODE_TYPES = List.of(
+            BoardErrorCode.class, ImageErrorCode.class, MemberAuthErrorCode.class, MemberErrorCode.class);
+
+    private final Map<ErrorCode, byte[]> responses = new HashMap<>();
+
+    /**
+     * filter 에서 보내는 인증 오류는 error code 와 관계없이 401 로 응답
+     */
+    private final Map<MemberAuthErrorCode, byte[]> unauthorizedResponses = new EnumMap<>(MemberAuthErrorCode.class);
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (Class<? extends ErrorCode> type : ERROR_CODE_TYPES) {
+            for (ErrorCode errorCode : type.getEnumConstants()) {
+                responses.put(errorCode, render(objectMapper, errorCode.getStatus(), errorCode));
+            }
+        }
+
+        for (MemberAuthErrorCode errorCode : MemberAuthErrorCode.values()) {
+            unauthorizedResponses.put(errorCode, errorCode.getStatus() == HttpStatus.UNAUTHORIZED
+                    ? responses.get(errorCode) : render(objectMapper, HttpStatus.UNAUTHORIZED, errorCode));
+        }
+    }
+
+    /**
+     * error code 의 status 로 응답 (GlobalExceptionHandler)
+     */
+    public ResponseEntity<byte[]> toResponseEntity(ErrorCode errorCode) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responses.get(errorCode));
+    }
+
+    /**
+     * error code 의 status 로 응답 작성 (security handler)
+     */
+    public void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        write(response, errorCode.getStatus(), responses.get(errorCode));
+    }
+
+    /**
+     * 401 응답 작성 (error code 의 메시지 사용)
+     */
+    public void writeUnauthorized(HttpServletResponse response, MemberAuthErrorCode errorCode) throws IOException {
+        write(response, HttpStatus.UNAUTHORIZED, unauthorizedResponses.get(errorCode));
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setContentType(CONTENT_TYPE);
+        response.setStatus(status.value());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] render(ObjectMapper objectMapper, HttpStatus status, ErrorCode errorCode) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ErrorResponse.builder()
+                .status(status.value())
+                .message(errorCode.getMessage())
+                .build());
+    }
+}
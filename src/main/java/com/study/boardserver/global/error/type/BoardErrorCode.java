@@ -6,7 +6,7 @@ import org.springframework.http.HttpStatus;
 
 @Getter
 @AllArgsConstructor
-public enum BoardErrorCode {
+public enum BoardErrorCode implements ErrorCode {
 
     POST_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 게시물입니다."),
     CANNOT_DELETE_POST(HttpStatus.FORBIDDEN, "게시물 삭제 권한은 작성자에게 있습니다."),
@@ -17,7 +17,8 @@ public enum BoardErrorCode {
     CANNOT_DELETE_COMMENT(HttpStatus.FORBIDDEN, "댓글 삭제 권한은 작성자에게 있습니다."),
     CANNOT_PUSH_HEART(HttpStatus.BAD_REQUEST, "자신의 게시물에 좋아요를 누를 수 없습니다."),
     ALREADY_PUSH_HEART(HttpStatus.CONFLICT, "이미 게시물에 좋아요를 눌렀습니다."),
-    HEART_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 좋아요입니다."),;
+    HEART_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 좋아요입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 cursor 입니다."),;
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,13 @@
+package com.study.boardserver.global.error.type;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 오류 응답의 status 와 메시지
+ */
+public interface ErrorCode {
+
+    HttpStatus getStatus();
+
+    String getMessage();
+}
@@ -0,0 +1,96 @@
+package com.study.boardserver.global.redis;
+
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이전 @RedisHash 형식(logoutAccessToken, AuthCode) 데이터를 TokenStore 형식으로 이전
+ *
+ * 남은 유효 시간(PTTL)을 그대로 옮기고 hash / phantom / index key 는 삭제한다. 여러 번 실행해도 결과는 같다.
+ * refresh token 은 재발급 시 RefreshTokenStore 가 이전한다.
+ *
+ * ApplicationRunner 는 ApplicationReadyEvent 전에 실행되므로 로그아웃 token 은 첫 동기화 전에 index 에 들어간다.
+ * 이전이 끝나기 전이나 실패한 경우에는 TokenRevocationService 가 첫 동기화 때 이전 key 를 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "spring.redis.legacy-migration", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LegacyRedisHashMigration implements ApplicationRunner {
+
+    private static final String LOGOUT_ACCESS_TOKEN_KEYSPACE = "logoutAccessToken";
+    private static final String AUTH_CODE_KEYSPACE = "AuthCode";
+    private static final String PHANTOM_SUFFIX = ":phantom";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenStore tokenStore;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            migrateLogoutAccessTokens();
+            migrateAuthCodes();
+        } catch (Exception e) {
+            log.warn("Fail to migrate legacy redis hashes: {}", e.getMessage());
+        }
+    }
+
+    private void migrateLogoutAccessTokens() {
+        Set<String> ids = stringRedisTemplate.opsForSet().members(LOGOUT_ACCESS_TOKEN_KEYSPACE);
+        if (ids == null) {
+            return;
+        }
+
+        for (String id : ids) {
+            String key = LOGOUT_ACCESS_TOKEN_KEYSPACE + ":" + id;
+            Long expiration = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            Object email = stringRedisTemplate.opsForHash().get(key, "email");
+
+            if (expiration != null && expiration > 0) {
+                // jti 도입 전에는 token 원문이 id 였다
+                String tokenId = id.indexOf('.') >= 0 ? ParsedToken.hash(id) : id;
+                tokenRevocationService.revoke(tokenId, email == null ? "" : (String) email,
+                        System.currentTimeMillis() + expiration);
+            }
+
+            stringRedisTemplate.delete(Arrays.asList(key, key + PHANTOM_SUFFIX));
+            stringRedisTemplate.opsForSet().remove(LOGOUT_ACCESS_TOKEN_KEYSPACE, id);
+        }
+        log.info("Migrated {} legacy logout tokens", ids.size());
+    }
+
+    private void migrateAuthCodes() {
+        Set<String> ids = stringRedisTemplate.opsForSet().members(AUTH_CODE_KEYSPACE);
+        if (ids == null) {
+            return;
+        }
+
+        for (String id : ids) {
+            String key = AUTH_CODE_KEYSPACE + ":" + id;
+            Long expiration = stringRedisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            Object email = stringRedisTemplate.opsForHash().get(key, "email");
+
+            if (expiration != null && expiration > 0 && email != null) {
+                tokenStore.save(TokenType.AUTH_CODE, id, (String) email, expiration);
+                stringRedisTemplate.opsForSet().remove(AUTH_CODE_KEYSPACE + ":email:" + email, id);
+            }
+
+            stringRedisTemplate.delete(Arrays.asList(key, key + PHANTOM_SUFFIX, key + ":idx",
+                    AUTH_CODE_KEYSPACE + ":id:" + id));
+            stringRedisTemplate.opsForSet().remove(AUTH_CODE_KEYSPACE, id);
+        }
+        log.info("Migrated {} legacy auth codes", ids.size());
+    }
+}
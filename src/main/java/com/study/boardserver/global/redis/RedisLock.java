@@ -0,0 +1,49 @@
+package com.study.boardserver.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * 여러 서버 중 한 곳에서만 작업을 실행하기 위한 lock (SET NX PX)
+ *
+ * 값으로 소유자(owner)를 저장하고, 연장 / 해제는 소유자가 같을 때만 실행한다.
+ * 작업이 timeout 보다 길어질 수 있으면 중간에 extend 로 연장하고, 실패하면 작업을 멈춘다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0", Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean tryLock(String key, String owner, long timeout) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, owner, Duration.ofMillis(timeout)));
+    }
+
+    /**
+     * lock 을 가진 경우에만 만료 시간 연장 (lock 을 잃었으면 false)
+     */
+    public boolean extend(String key, String owner, long timeout) {
+        Long extended = stringRedisTemplate.execute(EXTEND_SCRIPT, Collections.singletonList(key),
+                owner, String.valueOf(timeout));
+        return extended != null && extended > 0;
+    }
+
+    public void unlock(String key, String owner) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, Collections.singletonList(key), owner);
+    }
+}
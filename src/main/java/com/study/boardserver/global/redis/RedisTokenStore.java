@@ -0,0 +1,54 @@
+package com.study.boardserver.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SET key value PX ttl / GET / EXISTS / DEL 만 사용하는 token 저장소
+ *
+ * 조회 후 삭제는 GETDEL 이 없는 redis(6.2 미만)도 지원하도록 script 로 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisTokenStore implements TokenStore {
+
+    private static final RedisScript<String> GET_AND_DELETE_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('GET', KEYS[1]) " +
+            "if value then redis.call('DEL', KEYS[1]) end " +
+            "return value", String.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(TokenType type, String id, String value, long expiration) {
+        stringRedisTemplate.opsForValue().set(type.key(id), value, expiration, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<String> find(TokenType type, String id) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(type.key(id)));
+    }
+
+    @Override
+    public boolean exists(TokenType type, String id) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(type.key(id)));
+    }
+
+    @Override
+    public void delete(TokenType type, String id) {
+        stringRedisTemplate.delete(type.key(id));
+    }
+
+    @Override
+    public Optional<String> findAndDelete(TokenType type, String id) {
+        return Optional.ofNullable(stringRedisTemplate.execute(GET_AND_DELETE_SCRIPT,
+                Collections.singletonList(type.key(id))));
+    }
+}
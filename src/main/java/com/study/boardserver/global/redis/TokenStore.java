@@ -0,0 +1,25 @@
+package com.study.boardserver.global.redis;
+
+import java.util.Optional;
+
+/**
+ * 만료 시간이 있는 token 저장소 (key 하나에 값 하나)
+ */
+public interface TokenStore {
+
+    /**
+     * token 저장 (expiration : 밀리초)
+     */
+    void save(TokenType type, String id, String value, long expiration);
+
+    Optional<String> find(TokenType type, String id);
+
+    boolean exists(TokenType type, String id);
+
+    void delete(TokenType type, String id);
+
+    /**
+     * 조회 후 삭제 (한 번만 꺼낼 수 있는 token 에 사용, 동시에 요청해도 한 곳에서만 값을 받음)
+     */
+    Optional<String> findAndDelete(TokenType type, String id);
+}
@@ -0,0 +1,25 @@
+package com.study.boardserver.global.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * redis token 종류별 key prefix
+ */
+@Getter
+@AllArgsConstructor
+public enum TokenType {
+
+    AUTH_CODE("authCode:"),
+    OAUTH2_AUTHORIZATION_REQUEST("oauth2AuthRequest:"),
+    REFRESH_TOKEN("refreshTokenId:"),
+    SESSION_INDEX("sessions:"),
+    TOKEN_VERSION("tokenVersion:"),
+    LOGOUT_ACCESS_TOKEN("logoutToken:");
+
+    private final String prefix;
+
+    public String key(String id) {
+        return prefix + id;
+    }
+}
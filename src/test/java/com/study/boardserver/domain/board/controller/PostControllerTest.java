@@ -382,4 +382,78 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.message").value(POST_NOT_FOUND.getMessage()))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    @DisplayName("게시물 상세 조회 성공")
+    void getPost_Success() throws Exception {
+
+        PostDetailResponse response = PostDetailResponse.builder()
+                .postId(1L)
+                .title("제목입니다")
+                .content("내용입니다")
+                .nickname("nickname")
+                .imageUrls(List.of())
+                .heartCnt(3L)
+                .comments(List.of())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        given(postService.getPost(anyLong())).willReturn(response);
+
+        mockMvc.perform(get("/api/boards/{postId}", 1L)
+                        .header("Authorization", "accessToken"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postId").value(response.getPostId()))
+                .andExpect(jsonPath("$.heartCnt").value(response.getHeartCnt()))
+                .andExpect(jsonPath("$.hasNextComments").value(false))
+                .andDo(print());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("게시물 목록 조회 성공")
+    void getPosts_Success() throws Exception {
+
+        PostSummaryResponse post = PostSummaryResponse.builder()
+                .postId(1L)
+                .title("제목입니다")
+                .nickname("nickname")
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        PostListResponse response = PostListResponse.builder()
+                .posts(List.of(post))
+                .nextCursor("cursor")
+                .hasNext(true)
+                .build();
+
+        given(postService.getPosts(eq("abc"), eq(10))).willReturn(response);
+
+        mockMvc.perform(get("/api/boards")
+                        .param("cursor", "abc")
+                        .param("size", "10")
+                        .header("Authorization", "accessToken"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].postId").value(post.getPostId()))
+                .andExpect(jsonPath("$.posts[0].nickname").value(post.getNickname()))
+                .andExpect(jsonPath("$.nextCursor").value("cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("게시물 목록 조회 실패 - 잘못된 cursor")
+    void getPosts_Fail_InvalidCursor() throws Exception {
+
+        given(postService.getPosts(anyString(), anyInt())).willThrow(new BoardException(INVALID_CURSOR));
+
+        mockMvc.perform(get("/api/boards")
+                        .param("cursor", "invalid")
+                        .header("Authorization", "accessToken"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_CURSOR.getMessage()))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,227 @@
+package com.study.boardserver.domain.board.redis;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import com.study.boardserver.domain.board.redis.HeartCounterStore.PendingHeart;
+import com.study.boardserver.global.redis.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.study.boardserver.domain.board.redis.HeartCounterStore.ToggleResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+public class HeartCounterStoreTest {
+
+    private static final String OWNER = "owner1";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private HeartCounterStore heartCounterStore;
+
+    @BeforeEach
+    void clear() {
+        heartCounterStore = new HeartCounterStore(stringRedisTemplate, new RedisLock(stringRedisTemplate), 60000L);
+        stringRedisTemplate.delete(stringRedisTemplate.keys("heart*"));
+    }
+
+    @Test
+    @DisplayName("불러오지 않은 게시물은 등록 / 취소 불가")
+    void push_NotLoaded() {
+        assertEquals(NOT_LOADED, heartCounterStore.push(1L, 10L));
+        assertTrue(heartCounterStore.getCount(1L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 / 취소 시 중복 확인 후 좋아요 수 변경")
+    void pushAndDelete() {
+        load(1L, List.of(10L, 11L));
+
+        assertEquals(UNCHANGED, heartCounterStore.push(1L, 10L));
+        assertEquals(CHANGED, heartCounterStore.push(1L, 12L));
+        assertEquals(3L, heartCounterStore.getCount(1L).orElseThrow());
+
+        assertEquals(CHANGED, heartCounterStore.delete(1L, 10L));
+        assertEquals(UNCHANGED, heartCounterStore.delete(1L, 10L));
+        assertEquals(2L, heartCounterStore.getCount(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("이미 불러온 게시물은 다시 불러오지 않음")
+    void load_AlreadyLoaded() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+        load(1L, List.of(20L, 21L));
+
+        assertEquals(1L, heartCounterStore.getCount(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 반복 변경은 마지막 값만 반영")
+    void claimPending_Coalesced() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+        heartCounterStore.delete(1L, 10L);
+        heartCounterStore.push(1L, 11L);
+
+        heartCounterStore.tryLock(OWNER, 60000L);
+        List<PendingHeart> pending = heartCounterStore.claimPending(OWNER, 100, 60000L);
+
+        assertEquals(2, pending.size());
+        assertFalse(pending.stream().filter(heart -> heart.getMemberId() == 10L).findFirst().orElseThrow().isPushed());
+        assertTrue(pending.stream().filter(heart -> heart.getMemberId() == 11L).findFirst().orElseThrow().isPushed());
+    }
+
+    @Test
+    @DisplayName("반영 완료 전에는 같은 변경을 다시 반환 (이후 변경은 다음 반영 대상)")
+    void claimPending_Replay() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+        heartCounterStore.tryLock(OWNER, 60000L);
+
+        assertEquals(1, heartCounterStore.claimPending(OWNER, 100, 60000L).size());
+
+        heartCounterStore.push(1L, 11L);
+        List<PendingHeart> replayed = heartCounterStore.claimPending(OWNER, 100, 60000L);
+        assertEquals(1, replayed.size());
+        assertEquals(10L, replayed.get(0).getMemberId());
+
+        assertTrue(heartCounterStore.completePending(OWNER, replayed, 60000L));
+        List<PendingHeart> next = heartCounterStore.claimPending(OWNER, 100, 60000L);
+        assertEquals(1, next.size());
+        assertEquals(11L, next.get(0).getMemberId());
+
+        assertTrue(heartCounterStore.completePending(OWNER, next, 60000L));
+        assertTrue(heartCounterStore.claimPending(OWNER, 100, 60000L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("변경은 들어온 순서대로 최대 limit 개씩 반영")
+    void claimPending_Limit() {
+        load(1L, List.of());
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            heartCounterStore.push(1L, memberId);
+        }
+        heartCounterStore.tryLock(OWNER, 60000L);
+
+        List<PendingHeart> first = heartCounterStore.claimPending(OWNER, 2, 60000L);
+        assertEquals(Set.of(1L, 2L), memberIds(first));
+        assertTrue(heartCounterStore.completePending(OWNER, first, 60000L));
+
+        List<PendingHeart> second = heartCounterStore.claimPending(OWNER, 2, 60000L);
+        assertEquals(Set.of(3L, 4L), memberIds(second));
+        assertTrue(heartCounterStore.completePending(OWNER, second, 60000L));
+
+        assertEquals(Set.of(5L), memberIds(heartCounterStore.claimPending(OWNER, 2, 60000L)));
+    }
+
+    @Test
+    @DisplayName("lock 이 없으면 변경을 가져가거나 완료 처리할 수 없음")
+    void claimPending_LockLost() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+
+        assertTrue(heartCounterStore.claimPending(OWNER, 100, 60000L).isEmpty());
+
+        heartCounterStore.tryLock(OWNER, 60000L);
+        List<PendingHeart> claimed = heartCounterStore.claimPending(OWNER, 100, 60000L);
+        assertEquals(1, claimed.size());
+
+        // lock 만료 후 다른 서버가 획득
+        heartCounterStore.unlock(OWNER);
+        heartCounterStore.tryLock("owner2", 60000L);
+
+        assertFalse(heartCounterStore.completePending(OWNER, claimed, 60000L));
+        assertEquals(1, heartCounterStore.claimPending("owner2", 100, 60000L).size());
+    }
+
+    @Test
+    @DisplayName("다시 불러올 때 반영되지 않은 변경을 DB 값 위에 덮어씀")
+    void load_OverlayPending() {
+        load(1L, List.of(10L, 11L));
+        heartCounterStore.delete(1L, 10L);
+        heartCounterStore.push(1L, 12L);
+        heartCounterStore.tryLock(OWNER, 60000L);
+        heartCounterStore.claimPending(OWNER, 1, 60000L);
+        heartCounterStore.push(1L, 13L);
+
+        // 반영 전에 redis key 가 만료됨
+        stringRedisTemplate.delete(List.of("heartCount:1", "heartMembers:1"));
+        load(1L, List.of(10L, 11L));
+
+        assertEquals(3L, heartCounterStore.getCount(1L).orElseThrow());
+        assertEquals(UNCHANGED, heartCounterStore.push(1L, 12L));
+        assertEquals(UNCHANGED, heartCounterStore.push(1L, 13L));
+        assertEquals(UNCHANGED, heartCounterStore.delete(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 변경은 다시 불러올 때 덮어쓰지 않음")
+    void load_AfterComplete() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+        heartCounterStore.tryLock(OWNER, 60000L);
+        heartCounterStore.completePending(OWNER, heartCounterStore.claimPending(OWNER, 100, 60000L), 60000L);
+
+        // DB 반영 후 다른 경로로 삭제된 경우 DB 값을 따름
+        stringRedisTemplate.delete(List.of("heartCount:1", "heartMembers:1"));
+        load(1L, List.of());
+
+        assertEquals(0L, heartCounterStore.getCount(1L).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("DB 조회 후 불러오기 전에 반영이 끝나면 오래된 DB 값으로 불러오지 않음")
+    void load_CompletedAfterRead() {
+        load(1L, List.of());
+        heartCounterStore.push(1L, 10L);
+        heartCounterStore.tryLock(OWNER, 60000L);
+        List<PendingHeart> claimed = heartCounterStore.claimPending(OWNER, 100, 60000L);
+        stringRedisTemplate.delete(List.of("heartCount:1", "heartMembers:1"));
+
+        // DB 조회 (10 반영 전) -> 반영 commit 및 완료 처리 -> 불러오기
+        long version = heartCounterStore.getLoadVersion(1L);
+        heartCounterStore.completePending(OWNER, claimed, 60000L);
+
+        assertFalse(heartCounterStore.load(1L, List.of(), version));
+        assertTrue(heartCounterStore.getCount(1L).isEmpty());
+
+        // 다시 조회한 DB 값으로 불러옴
+        assertTrue(load(1L, List.of(10L)));
+        assertEquals(1L, heartCounterStore.getCount(1L).orElseThrow());
+        assertEquals(UNCHANGED, heartCounterStore.push(1L, 10L));
+    }
+
+    @Test
+    @DisplayName("반영 lock 은 한 곳에서만 획득")
+    void tryLock() {
+        assertTrue(heartCounterStore.tryLock(OWNER, 60000L));
+        assertFalse(heartCounterStore.tryLock("owner2", 60000L));
+
+        heartCounterStore.unlock("owner2");
+        assertFalse(heartCounterStore.tryLock("owner2", 60000L));
+
+        heartCounterStore.unlock(OWNER);
+        assertTrue(heartCounterStore.tryLock("owner2", 60000L));
+    }
+
+    private boolean load(Long postId, List<Long> memberIds) {
+        return heartCounterStore.load(postId, memberIds, heartCounterStore.getLoadVersion(postId));
+    }
+
+    private static Set<Long> memberIds(List<PendingHeart> pending) {
+        return pending.stream().map(PendingHeart::getMemberId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,104 @@
+package com.study.boardserver.domain.board.repository;
+
+import com.study.boardserver.domain.board.entity.Heart;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
+class HeartRepositoryTest {
+
+    @Autowired
+    private HeartRepository heartRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member writer;
+
+    private Member member;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        writer = memberRepository.save(Member.builder()
+                .email("test1@test.com")
+                .nickname("writer")
+                .role(MemberRole.ROLE_USER)
+                .build());
+
+        member = memberRepository.save(Member.builder()
+                .email("test2@test.com")
+                .nickname("member")
+                .role(MemberRole.ROLE_USER)
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(writer)
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 회원이 같은 게시물에 좋아요를 두 번 저장할 수 없음")
+    void save_Duplicate() {
+        heartRepository.saveAndFlush(Heart.builder().post(post).member(member).build());
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> heartRepository.saveAndFlush(Heart.builder().post(post).member(member).build()));
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 시 삭제된 행 수 반환")
+    void deleteByPostIdAndMemberId() {
+        heartRepository.saveAndFlush(Heart.builder().post(post).member(member).build());
+
+        assertEquals(1, heartRepository.deleteByPostIdAndMemberId(post.getId(), member.getId()));
+        assertEquals(0, heartRepository.deleteByPostIdAndMemberId(post.getId(), member.getId()));
+    }
+
+    @Test
+    @DisplayName("게시물 작성자 id 조회")
+    void findWriterIdById() {
+        assertEquals(writer.getId(), postRepository.findWriterIdById(post.getId()).orElseThrow());
+        assertTrue(postRepository.findWriterIdById(post.getId() + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("한 게시물의 좋아요를 한 번에 저장 / 조회 / 삭제")
+    void insertAll() {
+        Member other = memberRepository.save(Member.builder()
+                .email("test3@test.com")
+                .nickname("other")
+                .role(MemberRole.ROLE_USER)
+                .build());
+
+        heartRepository.insertAll(post.getId(), List.of(member.getId(), other.getId()));
+
+        assertEquals(List.of(member.getId()),
+                heartRepository.findMemberIdsByPostIdAndMemberIdIn(post.getId(), List.of(member.getId(), writer.getId())));
+        assertEquals(2, heartRepository.deleteByPostIdAndMemberIdIn(post.getId(), List.of(member.getId(), other.getId())));
+        assertTrue(heartRepository.findMemberIdsByPostId(post.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,88 @@
+package com.study.boardserver.domain.board.repository;
+
+import com.study.boardserver.domain.board.dto.post.PostSummaryResponse;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.global.config.JpaConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(JpaConfig.class)
+@ActiveProfiles("test")
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder()
+                .email("test@test.com")
+                .nickname("nickname")
+                .role(MemberRole.ROLE_USER)
+                .build());
+
+        for (int i = 0; i < 5; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .member(member)
+                    .build());
+            postIds.add(0, post.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("cursor 로 최신 게시물부터 중복 / 누락 없이 조회")
+    void findPostSummaries() {
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        List<PostSummaryResponse> page = postRepository.findPostSummaries(pageable);
+        List<PostSummaryResponse> result = new ArrayList<>(page);
+
+        while (!page.isEmpty()) {
+            PostSummaryResponse last = page.get(page.size() - 1);
+            page = postRepository.findPostSummariesBefore(last.getCreatedAt(), last.getPostId(), pageable);
+            result.addAll(page);
+        }
+
+        assertEquals(postIds, result.stream().map(PostSummaryResponse::getPostId).collect(Collectors.toList()));
+        assertEquals("nickname", result.get(0).getNickname());
+        assertNotNull(result.get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("좋아요 수 증가 / 감소 (0 미만으로 내려가지 않음)")
+    void updateHeartCount() {
+        Long postId = postIds.get(0);
+
+        postRepository.incrementHeartCount(postId);
+        postRepository.incrementHeartCount(postId);
+        postRepository.decrementHeartCount(postId);
+        assertEquals(1L, postRepository.findHeartCountById(postId).orElseThrow());
+
+        postRepository.decrementHeartCount(postId);
+        assertEquals(0, postRepository.decrementHeartCount(postId));
+        assertEquals(0L, postRepository.findHeartCountById(postId).orElseThrow());
+    }
+}
@@ -0,0 +1,130 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.entity.Heart;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.global.config.JpaConfig;
+import com.study.boardserver.global.redis.RedisLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "board.heart-count.reconcile-batch-size=2")
+@Import({JpaConfig.class, HeartCountReconciler.class})
+@ActiveProfiles("test")
+class HeartCountReconcilerTest {
+
+    @Autowired
+    private HeartCountReconciler heartCountReconciler;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void setUp() {
+        given(redisLock.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(redisLock.extend(anyString(), anyString(), anyLong())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("실제 좋아요 수와 다른 heartCount 만 보정")
+    void reconcile() {
+        Member writer = entityManager.persist(member("writer"));
+        List<Post> posts = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            Post post = entityManager.persist(Post.builder().title("제목").content("내용").member(writer).build());
+            posts.add(post);
+
+            for (int j = 0; j < i; j++) {
+                Member member = entityManager.persist(member("member" + i + "_" + j));
+                entityManager.persist(Heart.builder().post(post).member(member).build());
+                postRepository.incrementHeartCount(post.getId());
+            }
+        }
+
+        postRepository.incrementHeartCount(posts.get(0).getId());
+        postRepository.decrementHeartCount(posts.get(3).getId());
+        entityManager.clear();
+
+        assertEquals(2, heartCountReconciler.reconcile());
+        entityManager.clear();
+
+        for (int i = 0; i < posts.size(); i++) {
+            assertEquals(i, postRepository.findHeartCountById(posts.get(i).getId()).orElseThrow());
+        }
+        assertEquals(0, heartCountReconciler.reconcile());
+        verify(redisLock, times(2)).unlock(eq("heartCountReconcile:lock"), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 보정 중이면 건너뜀")
+    void reconcile_Locked() {
+        Member writer = entityManager.persist(member("writer"));
+        Post post = entityManager.persist(Post.builder().title("제목").content("내용").member(writer).build());
+        postRepository.incrementHeartCount(post.getId());
+        entityManager.clear();
+
+        given(redisLock.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+
+        assertEquals(0, heartCountReconciler.reconcile());
+        assertEquals(1L, postRepository.findHeartCountById(post.getId()).orElseThrow());
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("lock 을 잃으면 남은 범위를 보정하지 않고 중단")
+    void reconcile_LockLost() {
+        Member writer = entityManager.persist(member("writer"));
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Post post = entityManager.persist(Post.builder().title("제목").content("내용").member(writer).build());
+            postRepository.incrementHeartCount(post.getId());
+            posts.add(post);
+        }
+        entityManager.clear();
+
+        // 첫 batch 이후 다른 서버가 lock 획득
+        given(redisLock.extend(anyString(), anyString(), anyLong())).willReturn(true, false);
+
+        int repaired = heartCountReconciler.reconcile();
+
+        assertEquals(2, repaired);
+        entityManager.clear();
+        assertEquals(1L, postRepository.findHeartCountById(posts.get(3).getId()).orElseThrow());
+    }
+
+    private static Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .role(MemberRole.ROLE_USER)
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.global.config.JpaConfig;
+import com.study.boardserver.global.error.exception.BoardException;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.willAnswer;
+
+/**
+ * 실제 DB 제약 위반이 서비스 transaction 안에서 어떤 오류로 바뀌는지 확인
+ */
+@DataJpaTest
+@Import({JpaConfig.class, HeartServiceImpl.class})
+@ActiveProfiles("test")
+class HeartServiceConstraintTest {
+
+    @Autowired
+    private HeartService heartService;
+
+    @SpyBean
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member member;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = memberRepository.save(member("writer"));
+        member = memberRepository.save(member("member"));
+
+        post = postRepository.save(Post.builder()
+                .title("제목")
+                .content("내용")
+                .member(writer)
+                .build());
+    }
+
+    @Test
+    @DisplayName("이미 누른 좋아요는 unique 제약 위반으로 확인")
+    void pushHeart_Fail_AlreadyExist() {
+        heartService.pushHeart(member, post.getId());
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(member, post.getId()));
+
+        assertEquals(BoardErrorCode.ALREADY_PUSH_HEART, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("작성자 조회 후 삭제된 게시물은 외래 키 제약 위반으로 확인")
+    void pushHeart_Fail_PostDeleted() {
+        Long writerId = post.getMember().getId();
+        willAnswer(invocation -> {
+            jdbcTemplate.update("delete from post where post_id = ?", post.getId());
+            return Optional.of(writerId);
+        }).given(postRepository).findWriterIdById(post.getId());
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(member, post.getId()));
+
+        assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("그 외 제약 위반은 그대로 던짐")
+    void pushHeart_Fail_MemberNotExist() {
+        Member deleted = Member.builder()
+                .id(member.getId() + 100)
+                .email("deleted@test.com")
+                .build();
+
+        assertThrows(DataIntegrityViolationException.class, () -> heartService.pushHeart(deleted, post.getId()));
+    }
+
+    private static Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .role(MemberRole.ROLE_USER)
+                .build();
+    }
+}
@@ -2,12 +2,12 @@ package com.study.boardserver.domain.board.service;
 
 import com.study.boardserver.domain.board.dto.heart.HeartCountGetResponse;
 import com.study.boardserver.domain.board.entity.Heart;
-import com.study.boardserver.domain.board.entity.Post;
 import com.study.boardserver.domain.board.repository.HeartRepository;
 import com.study.boardserver.domain.board.repository.PostRepository;
 import com.study.boardserver.domain.member.entity.Member;
 import com.study.boardserver.global.error.exception.BoardException;
 import com.study.boardserver.global.error.type.BoardErrorCode;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +15,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.Optional;
 
@@ -23,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -42,32 +45,22 @@ class HeartServiceTest {
     @DisplayName("좋아요 등록 성공")
     void pushHeart_Success() {
 
-        Member member1 = Member.builder()
-                .id(1L)
-                .email("test1@test.com")
-                .build();
-
-        Member member2 = Member.builder()
+        Member member = Member.builder()
                 .id(2L)
                 .email("test2@test.com")
                 .build();
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .member(member1)
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.existsByPostAndMember(any(), any())).willReturn(false);
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
 
         ArgumentCaptor<Heart> heartCaptor = ArgumentCaptor.forClass(Heart.class);
 
-        Map<String, String> result = heartService.pushHeart(member2, 1L);
+        Map<String, String> result = heartService.pushHeart(member, 1L);
 
         assertNotNull(result.get("message"));
-        verify(heartRepository, times(1)).save(heartCaptor.capture());
+        verify(heartRepository, times(1)).saveAndFlush(heartCaptor.capture());
+        verify(postRepository, times(1)).incrementHeartCount(1L);
+        verify(postRepository, never()).findById(anyLong());
+        assertEquals(member, heartCaptor.getValue().getMember());
     }
 
     @Test
@@ -79,7 +72,7 @@ class HeartServiceTest {
                 .email("test@test.com")
                 .build();
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.empty());
 
         BoardException exception = assertThrows(BoardException.class,
                 () -> heartService.pushHeart(member, 1L));
@@ -96,88 +89,85 @@ class HeartServiceTest {
                 .email("test@test.com")
                 .build();
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .member(member)
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.existsByPostAndMember(any(), any())).willReturn(false);
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
 
         BoardException exception = assertThrows(BoardException.class,
                 () -> heartService.pushHeart(member, 1L));
 
         assertEquals(BoardErrorCode.CANNOT_PUSH_HEART, exception.getErrorCode());
+        verify(heartRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("좋아요 등록 실패 - 이미 누름")
     void pushHeart_Fail_AlreadyExist() {
 
-        Member member1 = Member.builder()
-                .id(1L)
-                .email("test1@test.com")
-                .build();
-
-        Member member2 = Member.builder()
+        Member member = Member.builder()
                 .id(2L)
                 .email("test2@test.com")
                 .build();
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .member(member1)
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.existsByPostAndMember(any(), any())).willReturn(true);
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartRepository.saveAndFlush(any())).willThrow(violation("PUBLIC.UK_HEART_POST_MEMBER_INDEX_4"));
 
         BoardException exception = assertThrows(BoardException.class,
-                () -> heartService.pushHeart(member2, 1L));
+                () -> heartService.pushHeart(member, 1L));
 
         assertEquals(BoardErrorCode.ALREADY_PUSH_HEART, exception.getErrorCode());
+        verify(postRepository, never()).incrementHeartCount(anyLong());
     }
 
     @Test
-    @DisplayName("좋아요 취소 성공")
-    void deleteHeart_Success() {
+    @DisplayName("좋아요 등록 실패 - 조회 후 게시물 삭제됨")
+    void pushHeart_Fail_PostDeleted() {
 
-        Member member1 = Member.builder()
-                .id(1L)
-                .email("test1@test.com")
+        Member member = Member.builder()
+                .id(2L)
+                .email("test2@test.com")
                 .build();
 
-        Member member2 = Member.builder()
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartRepository.saveAndFlush(any())).willThrow(violation("FK_HEART_POST"));
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(member, 1L));
+
+        assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 그 외 제약 위반은 그대로 던짐")
+    void pushHeart_Fail_OtherConstraint() {
+
+        Member member = Member.builder()
                 .id(2L)
                 .email("test2@test.com")
                 .build();
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .member(member1)
-                .build();
+        DataIntegrityViolationException violation = violation("FK_HEART_MEMBER");
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartRepository.saveAndFlush(any())).willThrow(violation);
 
-        Heart heart = Heart.builder()
-                .id(1L)
-                .member(member2)
-                .post(post)
-                .build();
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> heartService.pushHeart(member, 1L)));
+    }
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.findByPostAndMember(any(), any())).willReturn(Optional.of(heart));
+    @Test
+    @DisplayName("좋아요 취소 성공")
+    void deleteHeart_Success() {
 
-        ArgumentCaptor<Heart> heartCaptor = ArgumentCaptor.forClass(Heart.class);
+        Member member = Member.builder()
+                .id(2L)
+                .email("test2@test.com")
+                .build();
+
+        given(heartRepository.deleteByPostIdAndMemberId(1L, 2L)).willReturn(1);
 
-        Map<String, String> result = heartService.deleteHeart(member2, 1L);
+        Map<String, String> result = heartService.deleteHeart(member, 1L);
 
         assertNotNull(result.get("message"));
-        verify(heartRepository, times(1)).delete(heartCaptor.capture());
+        verify(postRepository, times(1)).decrementHeartCount(1L);
+        verify(postRepository, never()).existsById(anyLong());
     }
 
     @Test
@@ -189,7 +179,8 @@ class HeartServiceTest {
                 .email("test@test.com")
                 .build();
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(heartRepository.deleteByPostIdAndMemberId(1L, 1L)).willReturn(0);
+        given(postRepository.existsById(anyLong())).willReturn(false);
 
         BoardException exception = assertThrows(BoardException.class,
                 () -> heartService.deleteHeart(member, 1L));
@@ -201,44 +192,26 @@ class HeartServiceTest {
     @DisplayName("좋아요 취소 실패 - 좋아요 없음")
     void deleteHeart_Fail_NoHeart() {
 
-        Member member1 = Member.builder()
-                .id(1L)
-                .email("test1@test.com")
-                .build();
-
-        Member member2 = Member.builder()
+        Member member = Member.builder()
                 .id(2L)
                 .email("test2@test.com")
                 .build();
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .member(member1)
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.findByPostAndMember(any(), any())).willReturn(Optional.empty());
+        given(heartRepository.deleteByPostIdAndMemberId(1L, 2L)).willReturn(0);
+        given(postRepository.existsById(anyLong())).willReturn(true);
 
         BoardException exception = assertThrows(BoardException.class,
-                () -> heartService.deleteHeart(member2, 1L));
+                () -> heartService.deleteHeart(member, 1L));
 
         assertEquals(BoardErrorCode.HEART_NOT_FOUND, exception.getErrorCode());
+        verify(postRepository, never()).decrementHeartCount(anyLong());
     }
 
     @Test
     @DisplayName("게시물 좋아요 개수 조회 성공")
     void getHeartCountByPost_Success() {
 
-        Post post = Post.builder()
-                .id(1L)
-                .title("제목")
-                .content("내용")
-                .build();
-
-        given(postRepository.findById(anyLong())).willReturn(Optional.of(post));
-        given(heartRepository.countByPost(any())).willReturn(100L);
+        given(postRepository.findHeartCountById(anyLong())).willReturn(Optional.of(100L));
 
         HeartCountGetResponse response = heartService.getHeartCountByPost(1L);
 
@@ -250,11 +223,16 @@ class HeartServiceTest {
     @DisplayName("게시물 좋아요 개수 조회 실패 - 게시물 없음")
     void getHeartCountByPost_Fail_NoPost() {
 
-        given(postRepository.findById(anyLong())).willReturn(Optional.empty());
+        given(postRepository.findHeartCountById(anyLong())).willReturn(Optional.empty());
 
         BoardException exception = assertThrows(BoardException.class,
                 () -> heartService.getHeartCountByPost(1L));
 
         assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
     }
-}
\ No newline at end of file
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+}
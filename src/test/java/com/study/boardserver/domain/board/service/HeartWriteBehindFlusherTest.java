@@ -0,0 +1,129 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.redis.HeartCounterStore;
+import com.study.boardserver.domain.board.redis.HeartCounterStore.PendingHeart;
+import com.study.boardserver.domain.board.repository.HeartRepository;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HeartWriteBehindFlusherTest {
+
+    @Mock
+    private HeartCounterStore heartCounterStore;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private HeartRepository heartRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HeartWriteBehindFlusher flusher;
+
+    @BeforeEach
+    void setUp() {
+        flusher = new HeartWriteBehindFlusher(heartCounterStore, postRepository, memberRepository, heartRepository,
+                new TransactionTemplate(transactionManager), 60000L, 3);
+
+        given(heartCounterStore.tryLock(anyString(), anyLong())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("게시물별로 없는 좋아요만 한 번에 insert, 취소는 한 번에 delete 후 좋아요 수 재계산")
+    void flush() {
+        given(heartCounterStore.claimPending(anyString(), eq(3), anyLong())).willReturn(List.of(
+                new PendingHeart(1L, 10L, true),
+                new PendingHeart(1L, 11L, true),
+                new PendingHeart(1L, 12L, false),
+                new PendingHeart(2L, 10L, true))).willReturn(List.of());
+        given(heartCounterStore.completePending(anyString(), anyCollection(), anyLong())).willReturn(true);
+
+        given(postRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(memberRepository.findExistingIds(anyCollection())).willReturn(List.of(10L, 11L, 12L));
+        given(heartRepository.findMemberIdsByPostIdAndMemberIdIn(1L, List.of(10L, 11L))).willReturn(List.of(11L));
+
+        assertEquals(4, flusher.flush());
+
+        verify(heartRepository).insertAll(1L, List.of(10L));
+        verify(heartRepository).deleteByPostIdAndMemberIdIn(1L, List.of(12L));
+        verify(heartRepository, never()).insertAll(eq(2L), anyCollection());
+        verify(postRepository).reconcileHeartCount(1L, 1L);
+        verify(heartCounterStore).completePending(anyString(), anyCollection(), anyLong());
+        verify(heartCounterStore).unlock(anyString());
+    }
+
+    @Test
+    @DisplayName("batch 크기만큼 가져왔으면 남은 변경을 이어서 반영")
+    void flush_Batches() {
+        given(heartCounterStore.claimPending(anyString(), eq(3), anyLong()))
+                .willReturn(List.of(new PendingHeart(1L, 10L, false), new PendingHeart(1L, 11L, false), new PendingHeart(1L, 12L, false)))
+                .willReturn(List.of(new PendingHeart(1L, 13L, false)));
+        given(heartCounterStore.completePending(anyString(), anyCollection(), anyLong())).willReturn(true);
+        given(postRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(memberRepository.findExistingIds(anyCollection())).willReturn(List.of(10L, 11L, 12L, 13L));
+
+        assertEquals(4, flusher.flush());
+
+        verify(heartCounterStore, times(2)).claimPending(anyString(), eq(3), anyLong());
+        verify(heartCounterStore, times(2)).completePending(anyString(), anyCollection(), anyLong());
+    }
+
+    @Test
+    @DisplayName("lock 을 잃으면 완료 처리하지 않고 중단")
+    void flush_LockLost() {
+        given(heartCounterStore.claimPending(anyString(), eq(3), anyLong())).willReturn(
+                List.of(new PendingHeart(1L, 10L, false), new PendingHeart(1L, 11L, false), new PendingHeart(1L, 12L, false)));
+        given(heartCounterStore.completePending(anyString(), anyCollection(), anyLong())).willReturn(false);
+        given(postRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(memberRepository.findExistingIds(anyCollection())).willReturn(List.of(10L, 11L, 12L));
+
+        assertEquals(0, flusher.flush());
+
+        verify(heartCounterStore, times(1)).claimPending(anyString(), eq(3), anyLong());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 변경을 남겨두고 다음 실행 때 다시 반영")
+    void flush_Fail() {
+        given(heartCounterStore.claimPending(anyString(), eq(3), anyLong())).willReturn(List.of(new PendingHeart(1L, 10L, false)));
+        given(postRepository.findExistingIds(anyCollection())).willReturn(List.of(1L));
+        given(memberRepository.findExistingIds(anyCollection())).willReturn(List.of(10L));
+        given(heartRepository.deleteByPostIdAndMemberIdIn(1L, List.of(10L))).willThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> flusher.flush());
+
+        verify(heartCounterStore, never()).completePending(anyString(), anyCollection(), anyLong());
+        verify(heartCounterStore).unlock(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 반영 중이면 건너뜀")
+    void flush_Locked() {
+        given(heartCounterStore.tryLock(anyString(), anyLong())).willReturn(false);
+
+        assertEquals(0, flusher.flush());
+        verify(heartCounterStore, never()).claimPending(anyString(), anyInt(), anyLong());
+    }
+}
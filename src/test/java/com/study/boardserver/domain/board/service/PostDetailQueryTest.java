@@ -0,0 +1,107 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.awss3.service.AwsS3Service;
+import com.study.boardserver.domain.board.dto.post.PostDetailResponse;
+import com.study.boardserver.domain.board.entity.Comment;
+import com.study.boardserver.domain.board.entity.Heart;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.board.entity.PostImage;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.global.config.JpaConfig;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시물 상세 조회 시 실행되는 SQL 수 확인 (hibernate statistics)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, PostServiceImpl.class, HeartServiceImpl.class})
+@ActiveProfiles("test")
+class PostDetailQueryTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private AwsS3Service awsS3Service;
+
+    private Statistics statistics;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        Member writer = entityManager.persist(member("writer"));
+        Post post = entityManager.persist(Post.builder()
+                .title("제목입니다")
+                .content("내용입니다")
+                .member(writer)
+                .heartCount(2L)
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(PostImage.builder()
+                    .imgUrl("https://image-bucket.s3/" + i + ".jpg")
+                    .post(post)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        for (int i = 0; i < 25; i++) {
+            Member commenter = entityManager.persist(member("commenter" + i));
+            entityManager.persist(Comment.builder().content("댓글" + i).post(post).member(commenter).build());
+
+            if (i < 2) {
+                entityManager.persist(Heart.builder().post(post).member(commenter).build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        postId = post.getId();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("게시물 상세 조회는 댓글 / 이미지 수와 관계없이 2번의 query 로 처리")
+    void getPost() {
+        PostDetailResponse response = postService.getPost(postId);
+
+        assertEquals("writer", response.getNickname());
+        assertEquals(3, response.getImageUrls().size());
+        assertEquals(2L, response.getHeartCnt());
+        assertEquals(20, response.getComments().size());
+        assertEquals("commenter19", response.getComments().get(19).getNickname());
+        assertTrue(response.isHasNextComments());
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private static Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .role(MemberRole.ROLE_USER)
+                .build();
+    }
+}
@@ -1,11 +1,17 @@
 package com.study.boardserver.domain.board.service;
 
 import com.study.boardserver.domain.awss3.service.AwsS3Service;
+import com.study.boardserver.domain.board.dto.post.PostCursor;
+import com.study.boardserver.domain.board.dto.post.PostDetailResponse;
 import com.study.boardserver.domain.board.dto.post.PostImageUrlResponse;
+import com.study.boardserver.domain.board.dto.post.PostListResponse;
+import com.study.boardserver.domain.board.dto.post.PostSummaryResponse;
 import com.study.boardserver.domain.board.dto.post.PostWriteRequest;
 import com.study.boardserver.domain.board.dto.post.PostWriteResponse;
+import com.study.boardserver.domain.board.entity.Comment;
 import com.study.boardserver.domain.board.entity.Post;
 import com.study.boardserver.domain.board.entity.PostImage;
+import com.study.boardserver.domain.board.repository.CommentRepository;
 import com.study.boardserver.domain.board.repository.PostImageRepository;
 import com.study.boardserver.domain.board.repository.PostRepository;
 import com.study.boardserver.domain.member.entity.Member;
@@ -22,6 +28,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,9 +49,15 @@ class PostServiceTest {
     @Mock
     private PostImageRepository postImageRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
     @Mock
     private AwsS3Service awsS3Service;
 
+    @Mock
+    private HeartService heartService;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -259,4 +273,105 @@ class PostServiceTest {
         Map<String, String> result = postService.deletePostImage(1L, 1L);
         assertNotNull(result.get("message"));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("게시물 목록 첫 페이지 조회 - 다음 페이지 있음")
+    void getPosts_FirstPage() {
+
+        List<PostSummaryResponse> posts = List.of(summary(3L), summary(2L), summary(1L));
+
+        given(postRepository.findPostSummaries(any())).willReturn(posts);
+
+        PostListResponse response = postService.getPosts(null, 2);
+
+        assertEquals(2, response.getPosts().size());
+        assertTrue(response.isHasNext());
+
+        PostCursor cursor = PostCursor.decode(response.getNextCursor());
+        assertEquals(2L, cursor.getPostId());
+        assertEquals(posts.get(1).getCreatedAt(), cursor.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("게시물 목록 cursor 이후 조회 - 마지막 페이지")
+    void getPosts_Cursor() {
+
+        PostSummaryResponse last = summary(3L);
+
+        given(postRepository.findPostSummariesBefore(eq(last.getCreatedAt()), eq(3L), any()))
+                .willReturn(List.of(summary(2L), summary(1L)));
+
+        PostListResponse response = postService.getPosts(PostCursor.encode(last), 2);
+
+        assertEquals(2, response.getPosts().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("게시물 목록 조회 실패 - 잘못된 cursor")
+    void getPosts_Fail_InvalidCursor() {
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> postService.getPosts("invalid", 20));
+
+        assertEquals(BoardErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    }
+
+    private static PostSummaryResponse summary(Long postId) {
+        return PostSummaryResponse.builder()
+                .postId(postId)
+                .title("제목" + postId)
+                .nickname("nickname")
+                .createdAt(LocalDateTime.of(2023, 5, 1, 12, 0, 0, 123456000).plusMinutes(postId))
+                .build();
+    }
+
+    @Test
+    @DisplayName("게시물 상세 조회 성공 - 댓글은 첫 페이지만")
+    void getPost_Success() {
+
+        Member member = Member.builder()
+                .nickname("nickname")
+                .build();
+
+        Post post = Post.builder()
+                .id(1L)
+                .title("제목입니다")
+                .content("내용입니다")
+                .member(member)
+                .heartCount(3L)
+                .build();
+
+        post.addImage(PostImage.builder().id(1L).imgUrl("https://test~").post(post).build());
+
+        List<Comment> comments = new ArrayList<>();
+        for (long i = 1; i <= 21; i++) {
+            comments.add(Comment.builder().id(i).content("댓글" + i).post(post).member(member).build());
+        }
+
+        given(postRepository.findDetailById(anyLong())).willReturn(Optional.of(post));
+        given(commentRepository.findByPostOrderByIdAsc(eq(post), any())).willReturn(comments);
+        given(heartService.getHeartCount(post)).willReturn(3L);
+
+        PostDetailResponse response = postService.getPost(1L);
+
+        assertEquals("nickname", response.getNickname());
+        assertEquals(1, response.getImageUrls().size());
+        assertEquals(3L, response.getHeartCnt());
+        assertEquals(20, response.getComments().size());
+        assertTrue(response.isHasNextComments());
+    }
+
+    @Test
+    @DisplayName("게시물 상세 조회 실패 - 게시물 없음")
+    void getPost_Fail_NoPost() {
+
+        given(postRepository.findDetailById(anyLong())).willReturn(Optional.empty());
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> postService.getPost(1L));
+
+        assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+    }
+}
@@ -0,0 +1,179 @@
+package com.study.boardserver.domain.board.service;
+
+import com.study.boardserver.domain.board.dto.heart.HeartCountGetResponse;
+import com.study.boardserver.domain.board.entity.Post;
+import com.study.boardserver.domain.board.redis.HeartCounterStore;
+import com.study.boardserver.domain.board.repository.HeartRepository;
+import com.study.boardserver.domain.board.repository.PostRepository;
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.global.error.exception.BoardException;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.study.boardserver.domain.board.redis.HeartCounterStore.ToggleResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindHeartServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private HeartRepository heartRepository;
+
+    @Mock
+    private HeartCounterStore heartCounterStore;
+
+    @InjectMocks
+    private WriteBehindHeartServiceImpl heartService;
+
+    private final Member writer = Member.builder().id(1L).email("test1@test.com").build();
+
+    private final Member member = Member.builder().id(2L).email("test2@test.com").build();
+
+    @Test
+    @DisplayName("좋아요 등록 성공 - 처음 사용하는 게시물은 DB 에서 불러온 뒤 등록")
+    void pushHeart_Success_Load() {
+
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartCounterStore.push(1L, 2L)).willReturn(NOT_LOADED, CHANGED);
+        given(heartRepository.findMemberIdsByPostId(1L)).willReturn(List.of(3L));
+        given(heartCounterStore.getLoadVersion(1L)).willReturn(0L);
+        given(heartCounterStore.load(1L, List.of(3L), 0L)).willReturn(true);
+
+        assertNotNull(heartService.pushHeart(member, 1L).get("message"));
+        verify(heartCounterStore).load(1L, List.of(3L), 0L);
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 성공 - DB 조회 도중 반영이 끝나면 다시 조회해서 불러옴")
+    void pushHeart_Success_Reload() {
+
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartCounterStore.push(1L, 2L)).willReturn(NOT_LOADED, CHANGED);
+        given(heartCounterStore.getLoadVersion(1L)).willReturn(0L, 1L);
+        given(heartRepository.findMemberIdsByPostId(1L)).willReturn(List.of());
+        given(heartCounterStore.load(1L, List.of(), 0L)).willReturn(false);
+        given(heartCounterStore.load(1L, List.of(), 1L)).willReturn(true);
+
+        assertNotNull(heartService.pushHeart(member, 1L).get("message"));
+        verify(heartRepository, times(2)).findMemberIdsByPostId(1L);
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 이미 좋아요 누름")
+    void pushHeart_Fail_AlreadyExist() {
+
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+        given(heartCounterStore.push(1L, 2L)).willReturn(UNCHANGED);
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(member, 1L));
+
+        assertEquals(BoardErrorCode.ALREADY_PUSH_HEART, exception.getErrorCode());
+        verify(heartRepository, never()).findMemberIdsByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 자신의 게시물")
+    void pushHeart_Fail_MyPost() {
+
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.of(1L));
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(writer, 1L));
+
+        assertEquals(BoardErrorCode.CANNOT_PUSH_HEART, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("좋아요 등록 실패 - 게시물 없음")
+    void pushHeart_Fail_PostNotFound() {
+
+        given(postRepository.findWriterIdById(anyLong())).willReturn(Optional.empty());
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.pushHeart(member, 1L));
+
+        assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verify(heartCounterStore, never()).push(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 성공 - 불러온 게시물은 DB 조회 없이 취소")
+    void deleteHeart_Success_Loaded() {
+
+        given(heartCounterStore.delete(1L, 2L)).willReturn(CHANGED);
+
+        assertNotNull(heartService.deleteHeart(member, 1L).get("message"));
+        verify(postRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 실패 - 좋아요 없음")
+    void deleteHeart_Fail_NoHeart() {
+
+        given(heartCounterStore.delete(1L, 2L)).willReturn(UNCHANGED);
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.deleteHeart(member, 1L));
+
+        assertEquals(BoardErrorCode.HEART_NOT_FOUND, exception.getErrorCode());
+        verify(postRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소 실패 - 불러오지 않은 게시물이 없음")
+    void deleteHeart_Fail_PostNotFound() {
+
+        given(heartCounterStore.delete(1L, 2L)).willReturn(NOT_LOADED);
+        given(postRepository.existsById(1L)).willReturn(false);
+
+        BoardException exception = assertThrows(BoardException.class,
+                () -> heartService.deleteHeart(member, 1L));
+
+        assertEquals(BoardErrorCode.POST_NOT_FOUND, exception.getErrorCode());
+        verify(heartRepository, never()).findMemberIdsByPostId(anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 개수 조회 - redis 에 없으면 DB 값 사용")
+    void getHeartCountByPost() {
+
+        given(heartCounterStore.getCount(1L)).willReturn(Optional.of(7L));
+        given(heartCounterStore.getCount(2L)).willReturn(Optional.empty());
+        given(postRepository.findHeartCountById(2L)).willReturn(Optional.of(3L));
+
+        HeartCountGetResponse cached = heartService.getHeartCountByPost(1L);
+        HeartCountGetResponse stored = heartService.getHeartCountByPost(2L);
+
+        assertEquals(7L, cached.getHeartCnt());
+        assertEquals(3L, stored.getHeartCnt());
+        verify(postRepository, never()).findHeartCountById(1L);
+    }
+
+    @Test
+    @DisplayName("게시물 상세의 좋아요 개수 - redis 에 없으면 게시물의 값 사용")
+    void getHeartCount() {
+
+        given(heartCounterStore.getCount(1L)).willReturn(Optional.of(7L));
+        given(heartCounterStore.getCount(2L)).willReturn(Optional.empty());
+
+        assertEquals(7L, heartService.getHeartCount(Post.builder().id(1L).heartCount(3L).build()));
+        assertEquals(3L, heartService.getHeartCount(Post.builder().id(2L).heartCount(3L).build()));
+    }
+}
@@ -0,0 +1,84 @@
+package com.study.boardserver.domain.member.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.domain.member.dto.revoke.RevokeTokensRequest;
+import com.study.boardserver.domain.member.service.MemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class AdminMemberControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private MemberService memberService;
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("여러 회원 token 무효화 성공")
+    void revokeTokens_Success() throws Exception {
+        RevokeTokensRequest request = RevokeTokensRequest.builder()
+                .emails(Arrays.asList("test1@test.com", "test2@test.com"))
+                .build();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "2명의 token 을 무효화하였습니다.");
+
+        given(memberService.revokeTokens(any())).willReturn(response);
+
+        mockMvc.perform(post("/api/admin/members/tokens/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(response.get("message")))
+                .andDo(print());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    @DisplayName("여러 회원 token 무효화 실패 - 관리자 아님")
+    void revokeTokens_Fail_NotAdmin() throws Exception {
+        RevokeTokensRequest request = RevokeTokensRequest.builder()
+                .emails(Arrays.asList("test1@test.com", "test2@test.com"))
+                .build();
+
+        mockMvc.perform(post("/api/admin/members/tokens/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isForbidden())
+                .andDo(print());
+
+        verify(memberService, never()).revokeTokens(any());
+    }
+}
@@ -382,6 +382,7 @@ class MemberControllerTest {
 
         ReissueTokenResponse response = ReissueTokenResponse.builder()
                 .accessToken("access-token")
+                .refreshToken("new-refresh-token")
                 .build();
 
         given(memberService.reissueToken(any())).willReturn(response);
@@ -392,6 +393,7 @@ class MemberControllerTest {
                 .with(csrf()))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accessToken").value(response.getAccessToken()))
+                .andExpect(jsonPath("$.refreshToken").value(response.getRefreshToken()))
                 .andDo(print());
     }
 
@@ -434,21 +436,21 @@ class MemberControllerTest {
     }
 
     @Test
-    @DisplayName("access token 재발급 실패 - 일치 X")
-    void reissueToken_Fail_NotMatch() throws Exception {
+    @DisplayName("access token 재발급 실패 - 이미 사용된 토큰")
+    void reissueToken_Fail_Reused() throws Exception {
         ReissueTokenRequest request = ReissueTokenRequest.builder()
                 .refreshToken("refresh-token")
                 .build();
 
-        given(memberService.reissueToken(any())).willThrow(new MemberAuthException(NOT_MATCH_REFRESH_TOKEN));
+        given(memberService.reissueToken(any())).willThrow(new MemberAuthException(REUSED_REFRESH_TOKEN));
 
         mockMvc.perform(post("/api/members/auth/token")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request))
                         .with(csrf()))
                 .andExpect(status().isUnauthorized())
-                .andExpect(jsonPath("$.status").value(NOT_MATCH_REFRESH_TOKEN.getStatus().value()))
-                .andExpect(jsonPath("$.message").value(NOT_MATCH_REFRESH_TOKEN.getMessage()))
+                .andExpect(jsonPath("$.status").value(REUSED_REFRESH_TOKEN.getStatus().value()))
+                .andExpect(jsonPath("$.message").value(REUSED_REFRESH_TOKEN.getMessage()))
                 .andDo(print());
     }
 
@@ -493,4 +495,26 @@ class MemberControllerTest {
                 .andExpect(jsonPath("$.message").value(INVALID_ACCESS_TOKEN.getMessage()))
                 .andDo(print());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    @DisplayName("모든 기기 로그아웃 성공")
+    void logoutAll_Success() throws Exception {
+        LogoutRequest request = LogoutRequest.builder()
+                .accessToken("access-token")
+                .build();
+
+        Map<String, String> response = new HashMap<>();
+        response.put("message", "모든 기기에서 로그아웃");
+
+        given(memberService.logoutAll(any())).willReturn(response);
+
+        mockMvc.perform(post("/api/members/auth/logout-all")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(response.get("message")))
+                .andDo(print());
+    }
+}
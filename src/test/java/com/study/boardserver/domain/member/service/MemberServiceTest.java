@@ -4,24 +4,27 @@ import com.study.boardserver.domain.mail.service.MailService;
 import com.study.boardserver.domain.member.dto.logout.LogoutRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenRequest;
 import com.study.boardserver.domain.member.dto.reissue.ReissueTokenResponse;
+import com.study.boardserver.domain.member.dto.revoke.RevokeTokensRequest;
 import com.study.boardserver.domain.member.dto.signup.ConfirmAuthCodeRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpRequest;
 import com.study.boardserver.domain.member.dto.signup.SignUpResponse;
 import com.study.boardserver.domain.member.entity.Member;
-import com.study.boardserver.domain.member.entity.MemberAuthCode;
 import com.study.boardserver.domain.member.repository.MemberRepository;
-import com.study.boardserver.domain.member.repository.redis.MemberAuthCodeRepository;
 import com.study.boardserver.domain.member.type.MemberRole;
-import com.study.boardserver.domain.security.CustomUserDetails;
 import com.study.boardserver.domain.security.jwt.JwtTokenProvider;
-import com.study.boardserver.domain.security.jwt.redis.LogoutAccessToken;
-import com.study.boardserver.domain.security.jwt.redis.LogoutAccessTokenRepository;
-import com.study.boardserver.domain.security.jwt.redis.RefreshToken;
-import com.study.boardserver.domain.security.jwt.redis.RefreshTokenRepository;
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.domain.security.jwt.TokenPair;
+import com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import com.study.boardserver.domain.security.jwt.revocation.TokenVersionService;
 import com.study.boardserver.global.error.exception.MemberAuthException;
 import com.study.boardserver.global.error.exception.MemberException;
 import com.study.boardserver.global.error.type.MemberAuthErrorCode;
 import com.study.boardserver.global.error.type.MemberErrorCode;
+import com.study.boardserver.global.redis.TokenStore;
+import com.study.boardserver.global.redis.TokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,17 +32,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -53,7 +61,7 @@ class MemberServiceTest {
     private MailService mailService;
 
     @Mock
-    private MemberAuthCodeRepository memberAuthCodeRepository;
+    private TokenStore tokenStore;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -62,10 +70,13 @@ class MemberServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private RefreshTokenRepository refreshTokenRepository;
+    private RefreshTokenStore refreshTokenStore;
 
     @Mock
-    private LogoutAccessTokenRepository logoutAccessTokenRepository;
+    private TokenVersionService tokenVersionService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
 
     @InjectMocks
     private MemberServiceImpl memberService;
@@ -143,14 +154,12 @@ class MemberServiceTest {
         given(memberRepository.existsByEmail(anyString())).willReturn(false);
         given(mailService.sendMail(anyString(), anyString())).willReturn(true);
 
-        ArgumentCaptor<MemberAuthCode> captor = ArgumentCaptor.forClass(MemberAuthCode.class);
-
         // when
         Map<String, String> result = memberService.sendAuthCode(email);
 
         // then
         assertNotNull(result.get("message"));
-        verify(memberAuthCodeRepository, times(1)).save(captor.capture());
+        verify(tokenStore, times(1)).save(eq(TokenType.AUTH_CODE), anyString(), eq(email), anyLong());
     }
 
     @Test
@@ -162,7 +171,7 @@ class MemberServiceTest {
                 .build();
 
         // given
-        given(memberAuthCodeRepository.findByIdAndEmail(anyString(), anyString())).willReturn(Optional.empty());
+        given(tokenStore.find(TokenType.AUTH_CODE, request.getCode())).willReturn(Optional.empty());
 
         // when
         MemberException exception = assertThrows(MemberException.class,
@@ -173,21 +182,34 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("회원 이메일 인증 성공")
-    void confirmAuthCode_Success() {
+    @DisplayName("회원 이메일 인증 실패 - 다른 이메일로 발송된 코드")
+    void confirmAuthCode_Fail_OtherEmail() {
         ConfirmAuthCodeRequest request = ConfirmAuthCodeRequest.builder()
                 .email("test@test.com")
                 .code("abc123")
                 .build();
 
-        MemberAuthCode authCode = MemberAuthCode.builder()
-                .email(request.getEmail())
-                .id(request.getCode())
-                .expiredAt(100L)
+        // given
+        given(tokenStore.find(TokenType.AUTH_CODE, request.getCode())).willReturn(Optional.of("other@test.com"));
+
+        // when
+        MemberException exception = assertThrows(MemberException.class,
+                ()-> memberService.confirmAuthCode(request));
+
+        // then
+        assertEquals(exception.getErrorCode(), MemberErrorCode.INVALID_EMAIL_AUTH_CODE);
+    }
+
+    @Test
+    @DisplayName("회원 이메일 인증 성공")
+    void confirmAuthCode_Success() {
+        ConfirmAuthCodeRequest request = ConfirmAuthCodeRequest.builder()
+                .email("test@test.com")
+                .code("abc123")
                 .build();
 
         // given
-        given(memberAuthCodeRepository.findByIdAndEmail(anyString(), anyString())).willReturn(Optional.of(authCode));
+        given(tokenStore.find(TokenType.AUTH_CODE, request.getCode())).willReturn(Optional.of(request.getEmail()));
 
         // when
         Map<String, String> result = memberService.confirmAuthCode(request);
@@ -285,7 +307,7 @@ class MemberServiceTest {
                 .refreshToken("refresh-token")
                 .build();
 
-        given(jwtTokenProvider.validateToken(anyString())).willReturn(false);
+        given(jwtTokenProvider.parseTokenIfValid(anyString())).willReturn(Optional.empty());
 
         MemberAuthException exception = assertThrows(MemberAuthException.class,
                 ()-> memberService.reissueToken(request));
@@ -303,10 +325,10 @@ class MemberServiceTest {
         String email = "test@test.com";
         String role = "ROLE_USER";
 
-        given(jwtTokenProvider.validateToken(request.getRefreshToken())).willReturn(true);
-        given(jwtTokenProvider.getUsername(anyString())).willReturn(email);
-        given(jwtTokenProvider.getUserRole(anyString())).willReturn(role);
-        given(refreshTokenRepository.findById(anyString())).willReturn(Optional.empty());
+        given(jwtTokenProvider.parseTokenIfValid(request.getRefreshToken()))
+                .willReturn(Optional.of(parsedToken(request.getRefreshToken(), email, role)));
+        given(jwtTokenProvider.reissueTokens(any()))
+                .willThrow(new MemberAuthException(MemberAuthErrorCode.NOT_EXIST_REFRESH_TOKEN));
 
         MemberAuthException exception = assertThrows(MemberAuthException.class,
                 ()-> memberService.reissueToken(request));
@@ -315,29 +337,24 @@ class MemberServiceTest {
     }
 
     @Test
-    @DisplayName("access token 재발급 실패 - 일치 X")
-    void reissueToken_Fail_NotMatch() {
+    @DisplayName("access token 재발급 실패 - 이미 사용된 토큰")
+    void reissueToken_Fail_Reused() {
         ReissueTokenRequest request = ReissueTokenRequest.builder()
-                .refreshToken("refresh-token1")
+                .refreshToken("refresh-token")
                 .build();
 
         String email = "test@test.com";
         String role = "ROLE_USER";
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .id(email)
-                .refreshToken("refresh-token2")
-                .build();
-
-        given(jwtTokenProvider.validateToken(request.getRefreshToken())).willReturn(true);
-        given(jwtTokenProvider.getUsername(anyString())).willReturn(email);
-        given(jwtTokenProvider.getUserRole(anyString())).willReturn(role);
-        given(refreshTokenRepository.findById(anyString())).willReturn(Optional.of(refreshToken));
+        given(jwtTokenProvider.parseTokenIfValid(request.getRefreshToken()))
+                .willReturn(Optional.of(parsedToken(request.getRefreshToken(), email, role)));
+        given(jwtTokenProvider.reissueTokens(any()))
+                .willThrow(new MemberAuthException(MemberAuthErrorCode.REUSED_REFRESH_TOKEN));
 
         MemberAuthException exception = assertThrows(MemberAuthException.class,
                 () -> memberService.reissueToken(request));
 
-        assertEquals(exception.getErrorCode(), MemberAuthErrorCode.NOT_MATCH_REFRESH_TOKEN);
+        assertEquals(exception.getErrorCode(), MemberAuthErrorCode.REUSED_REFRESH_TOKEN);
     }
 
     @Test
@@ -350,22 +367,17 @@ class MemberServiceTest {
         String email = "test@test.com";
         String role = "ROLE_USER";
 
-        RefreshToken refreshToken = RefreshToken.builder()
-                .id(email)
-                .refreshToken("refresh-token")
-                .build();
-
         String accessToken = "access-token";
+        String refreshToken = "new-refresh-token";
 
-        given(jwtTokenProvider.validateToken(request.getRefreshToken())).willReturn(true);
-        given(jwtTokenProvider.getUsername(anyString())).willReturn(email);
-        given(jwtTokenProvider.getUserRole(anyString())).willReturn(role);
-        given(refreshTokenRepository.findById(anyString())).willReturn(Optional.of(refreshToken));
-        given(jwtTokenProvider.issueAccessToken(anyString(), anyString())).willReturn(accessToken);
+        given(jwtTokenProvider.parseTokenIfValid(request.getRefreshToken()))
+                .willReturn(Optional.of(parsedToken(request.getRefreshToken(), email, role)));
+        given(jwtTokenProvider.reissueTokens(any())).willReturn(new TokenPair(accessToken, refreshToken));
 
         ReissueTokenResponse response = memberService.reissueToken(request);
 
         assertEquals(response.getAccessToken(), accessToken);
+        assertEquals(response.getRefreshToken(), refreshToken);
     }
 
     @Test
@@ -395,18 +407,76 @@ class MemberServiceTest {
                 .role(MemberRole.ROLE_USER)
                 .build();
 
-        CustomUserDetails userDetails = new CustomUserDetails(member);
-        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        given(jwtTokenProvider.parseTokenIfValid(anyString()))
+                .willReturn(Optional.of(parsedToken(request.getAccessToken(), member.getEmail(), member.getRole().name())));
 
-        given(jwtTokenProvider.validateToken(anyString())).willReturn(true);
-        given(jwtTokenProvider.getAuthentication(anyString())).willReturn(authentication);
-        given(jwtTokenProvider.getRemainingTime(anyString())).willReturn(10000L);
-
-        ArgumentCaptor<LogoutAccessToken> captor = ArgumentCaptor.forClass(LogoutAccessToken.class);
+        ArgumentCaptor<ParsedToken> captor = ArgumentCaptor.forClass(ParsedToken.class);
 
         Map<String, String> result = memberService.logout(request);
 
         assertNotNull(result.get("message"));
-        verify(logoutAccessTokenRepository, times(1)).save(captor.capture());
+        verify(refreshTokenStore, times(1)).delete(member.getEmail(), "session-id");
+        verify(refreshTokenStore, never()).deleteAll(anyString());
+        verify(tokenRevocationService, times(1)).revoke(captor.capture());
+        assertEquals(request.getAccessToken(), captor.getValue().getToken());
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 실패")
+    void logoutAll_Fail() {
+        LogoutRequest request = LogoutRequest.builder()
+                .accessToken("access-token")
+                .build();
+
+        MemberAuthException exception = assertThrows(MemberAuthException.class,
+                () -> memberService.logoutAll(request));
+
+        assertEquals(exception.getErrorCode(), MemberAuthErrorCode.INVALID_ACCESS_TOKEN);
+        verify(tokenVersionService, never()).increment(anyString());
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 성공")
+    void logoutAll_Success() {
+        LogoutRequest request = LogoutRequest.builder()
+                .accessToken("access-token")
+                .build();
+
+        String email = "test@test.com";
+
+        given(jwtTokenProvider.parseTokenIfValid(anyString()))
+                .willReturn(Optional.of(parsedToken(request.getAccessToken(), email, "ROLE_USER")));
+
+        Map<String, String> result = memberService.logoutAll(request);
+
+        assertNotNull(result.get("message"));
+        verify(tokenVersionService, times(1)).increment(email);
+        verify(refreshTokenStore, times(1)).deleteAll(email);
+        verify(refreshTokenStore, never()).delete(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("여러 회원 token 무효화 성공")
+    void revokeTokens_Success() {
+        RevokeTokensRequest request = RevokeTokensRequest.builder()
+                .emails(Arrays.asList("test1@test.com", "test2@test.com", "test1@test.com"))
+                .build();
+
+        given(tokenVersionService.incrementAll(any())).willReturn(2);
+
+        Map<String, String> result = memberService.revokeTokens(request);
+
+        assertNotNull(result.get("message"));
+        verify(tokenVersionService, times(1))
+                .incrementAll(new LinkedHashSet<>(Arrays.asList("test1@test.com", "test2@test.com")));
+    }
+
+    private static ParsedToken parsedToken(String token, String email, String role) {
+        Claims claims = Jwts.claims().setSubject("token");
+        claims.put("email", email);
+        claims.put("role", role);
+        claims.put("sid", "session-id");
+        claims.setExpiration(new Date(System.currentTimeMillis() + 10000L));
+        return new ParsedToken(token, claims);
     }
-}
\ No newline at end of file
+}
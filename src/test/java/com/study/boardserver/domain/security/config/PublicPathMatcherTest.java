@@ -0,0 +1,51 @@
+package com.study.boardserver.domain.security.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicPathMatcherTest {
+
+    private final PublicPathMatcher publicPathMatcher = new PublicPathMatcher();
+
+    @Test
+    @DisplayName("인증 없이 호출할 수 있는 경로")
+    void matches() {
+        assertTrue(publicPathMatcher.matches(request("POST", "/api/members/auth/login")));
+        assertTrue(publicPathMatcher.matches(request("POST", "/api/members/sign-up")));
+        assertTrue(publicPathMatcher.matches(request("POST", "/api/members/sign-up/email")));
+        assertTrue(publicPathMatcher.matches(request("GET", "/.well-known/jwks.json")));
+    }
+
+    @Test
+    @DisplayName("경로가 정확히 일치하지 않으면 인증 필요")
+    void matches_NotExact() {
+        assertFalse(publicPathMatcher.matches(request("POST", "/api/members")));
+        assertFalse(publicPathMatcher.matches(request("POST", "/api/members/sign-up/")));
+        assertFalse(publicPathMatcher.matches(request("POST", "/api/members/auth/logout")));
+        assertFalse(publicPathMatcher.matches(request("POST", "/api/members/auth/login;jsessionid=1")));
+        assertFalse(publicPathMatcher.matches(request("GET", "/api/boards")));
+    }
+
+    @Test
+    @DisplayName("method 가 지정된 경로는 해당 method 만 허용")
+    void matches_Method() {
+        assertFalse(publicPathMatcher.matches(request("POST", "/.well-known/jwks.json")));
+    }
+
+    @Test
+    @DisplayName("context path 제외 후 비교")
+    void matches_ContextPath() {
+        MockHttpServletRequest request = request("POST", "/board/api/members/auth/login");
+        request.setContextPath("/board");
+
+        assertTrue(publicPathMatcher.matches(request));
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+}
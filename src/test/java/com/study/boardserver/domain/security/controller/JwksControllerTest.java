@@ -0,0 +1,41 @@
+package com.study.boardserver.domain.security.controller;
+
+import com.study.boardserver.domain.security.jwt.key.JwtKeyManager;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class JwksControllerTest {
+
+    @Test
+    @DisplayName("JWKS 조회 - redis 를 사용할 수 없어도 현재 서버의 공개 key 제공")
+    void getJwks() throws Exception {
+        // connection factory 가 없는 template : redis 공유 실패 시에도 자신의 key 는 제공
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(new StringRedisTemplate(), new RedisMessageListenerContainer());
+        ReflectionTestUtils.setField(jwtKeyManager, "secretKey", "secret_key");
+        ReflectionTestUtils.setField(jwtKeyManager, "algorithm", SignatureAlgorithm.ES256);
+        ReflectionTestUtils.setField(jwtKeyManager, "refreshTokenValid", 600000L);
+        ReflectionTestUtils.setField(jwtKeyManager, "rotationInterval", 600000L);
+        ReflectionTestUtils.invokeMethod(jwtKeyManager, "init");
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new JwksController(jwtKeyManager)).build();
+
+        mockMvc.perform(get(JwksController.JWKS_PATH))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300"))
+                .andExpect(jsonPath("$.keys.length()").value(1))
+                .andExpect(jsonPath("$.keys[0].kid").value(jwtKeyManager.getCurrentKey().getKeyId()))
+                .andExpect(jsonPath("$.keys[0].kty").value("EC"))
+                .andExpect(jsonPath("$.keys[0].use").value("sig"))
+                .andExpect(jsonPath("$.keys[0].x").isNotEmpty())
+                .andExpect(jsonPath("$.keys[0].y").isNotEmpty());
+    }
+}
@@ -0,0 +1,170 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.domain.security.jwt.key.JwtKeyManager;
+import com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore;
+import com.study.boardserver.domain.security.jwt.revocation.TokenRevocationService;
+import com.study.boardserver.domain.security.jwt.revocation.TokenVersionService;
+import com.study.boardserver.global.error.exception.MemberAuthException;
+import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    private static final String EMAIL = "test@test.com";
+    private static final String ROLE = "ROLE_USER";
+    private static final long ACCESS_TOKEN_VALID = 600000L;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private TokenVersionService tokenVersionService;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void init() {
+        jwtTokenProvider = createProvider("secret_key");
+    }
+
+    @Test
+    @DisplayName("token 검증 성공")
+    void validateToken_Success() {
+        String token = jwtTokenProvider.createToken(EMAIL, ACCESS_TOKEN_VALID, ROLE);
+
+        TokenValidationResult result = jwtTokenProvider.validateToken(token);
+
+        assertTrue(result.isValid());
+        assertEquals(EMAIL, result.getToken().getEmail());
+        assertSame(result, jwtTokenProvider.validateToken(token));
+    }
+
+    @Test
+    @DisplayName("캐시된 token 도 로그아웃 후에는 거절")
+    void isLogoutAccessToken_Cached() {
+        String token = jwtTokenProvider.createToken(EMAIL, ACCESS_TOKEN_VALID, ROLE);
+        given(tokenRevocationService.isRevoked(any())).willReturn(false, true);
+
+        ParsedToken parsedToken = jwtTokenProvider.validateToken(token).getToken();
+        assertFalse(jwtTokenProvider.isLogoutAccessToken(parsedToken));
+
+        // 로그아웃 후 같은 token 은 캐시에서 꺼내지만 로그아웃 여부는 매번 확인
+        ParsedToken cached = jwtTokenProvider.validateToken(token).getToken();
+        assertSame(parsedToken, cached);
+        assertTrue(jwtTokenProvider.isLogoutAccessToken(cached));
+    }
+
+    @Test
+    @DisplayName("stateless principal 모드는 claim 으로 인증 정보 생성 (회원은 필요할 때 조회)")
+    void getAuthentication_StatelessPrincipal() {
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", true);
+        ParsedToken token = jwtTokenProvider.parseToken(jwtTokenProvider.createToken(EMAIL, ACCESS_TOKEN_VALID, "ROLE_ADMIN"));
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(token);
+
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        assertEquals(EMAIL, principal.getUsername());
+        assertEquals(MemberRole.ROLE_ADMIN, principal.getRole());
+        assertEquals(Set.of("ROLE_ADMIN"), AuthorityUtils.authorityListToSet(authentication.getAuthorities()));
+        verify(userDetailsService, never()).loadUserByUsername(any());
+
+        Member member = Member.builder().id(1L).email(EMAIL).role(MemberRole.ROLE_ADMIN).build();
+        given(userDetailsService.loadUserByUsername(EMAIL)).willReturn(new CustomUserDetails(member));
+
+        assertSame(member, principal.getMember());
+        assertSame(member, principal.getMember());
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    @DisplayName("token 검증 실패 - 만료 (예외 없이 결과 반환)")
+    void validateToken_Fail_Expired() {
+        String token = jwtTokenProvider.createToken(EMAIL, -ACCESS_TOKEN_VALID, ROLE);
+
+        TokenValidationResult result = jwtTokenProvider.validateToken(token);
+
+        assertFalse(result.isValid());
+        assertEquals(MemberAuthErrorCode.EXPIRED_ACCESS_TOKEN, result.getErrorCode());
+        assertSame(result, TokenValidationResult.invalid(MemberAuthErrorCode.EXPIRED_ACCESS_TOKEN));
+    }
+
+    @Test
+    @DisplayName("token 검증 실패 - 형식 오류")
+    void validateToken_Fail_Malformed() {
+        assertEquals(MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN,
+                jwtTokenProvider.validateToken("malformed-token").getErrorCode());
+        assertEquals(MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN,
+                jwtTokenProvider.validateToken("a.b.c.d").getErrorCode());
+        assertEquals(MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN,
+                jwtTokenProvider.validateToken("a.!!!.c").getErrorCode());
+    }
+
+    @Test
+    @DisplayName("token 검증 실패 - 서명 불일치")
+    void validateToken_Fail_Signature() {
+        String token = createProvider("other_secret_key").createToken(EMAIL, ACCESS_TOKEN_VALID, ROLE);
+
+        TokenValidationResult result = jwtTokenProvider.validateToken(token);
+
+        assertEquals(MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN, result.getErrorCode());
+        assertFalse(jwtTokenProvider.parseTokenIfValid(token).isPresent());
+    }
+
+    @Test
+    @DisplayName("parseToken 은 검증 실패 시 예외 발생")
+    void parseToken_Fail_Expired() {
+        String token = jwtTokenProvider.createToken(EMAIL, -ACCESS_TOKEN_VALID, ROLE);
+
+        MemberAuthException exception = assertThrows(MemberAuthException.class,
+                () -> jwtTokenProvider.parseToken(token));
+
+        assertEquals(MemberAuthErrorCode.EXPIRED_ACCESS_TOKEN, exception.getErrorCode());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    private JwtTokenProvider createProvider(String secretKey) {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(new StringRedisTemplate(), new RedisMessageListenerContainer());
+        ReflectionTestUtils.setField(jwtKeyManager, "secretKey", secretKey);
+        ReflectionTestUtils.setField(jwtKeyManager, "algorithm", SignatureAlgorithm.HS256);
+        ReflectionTestUtils.setField(jwtKeyManager, "refreshTokenValid", ACCESS_TOKEN_VALID);
+        ReflectionTestUtils.invokeMethod(jwtKeyManager, "init");
+
+        JwtTokenProvider provider = new JwtTokenProvider(userDetailsService, refreshTokenStore,
+                tokenRevocationService, tokenVersionService, jwtKeyManager, new VerifiedTokenCache(100));
+        ReflectionTestUtils.setField(provider, "accessTokenValid", ACCESS_TOKEN_VALID);
+        ReflectionTestUtils.setField(provider, "refreshTokenValid", ACCESS_TOKEN_VALID);
+        ReflectionTestUtils.invokeMethod(provider, "init");
+        return provider;
+    }
+}
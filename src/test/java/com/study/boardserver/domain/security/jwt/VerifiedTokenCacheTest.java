@@ -0,0 +1,69 @@
+package com.study.boardserver.domain.security.jwt;
+
+import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100);
+
+    private final AtomicInteger verified = new AtomicInteger();
+
+    @Test
+    @DisplayName("검증에 성공한 token 은 다시 검증하지 않음")
+    void get_Cached() {
+        Function<String, TokenValidationResult> validator = validator(60000L);
+
+        TokenValidationResult result = verifiedTokenCache.get("token", validator);
+
+        assertSame(result, verifiedTokenCache.get("token", validator));
+        assertEquals(1, verified.get());
+    }
+
+    @Test
+    @DisplayName("캐시된 token 은 exp 시각에 만료되어 다시 검증")
+    void get_Expired() throws InterruptedException {
+        // exp 는 초 단위로 저장된다
+        Function<String, TokenValidationResult> validator = validator(1500L);
+
+        TokenValidationResult result = verifiedTokenCache.get("token", validator);
+        verifiedTokenCache.get("token", validator);
+        assertEquals(1, verified.get());
+
+        Thread.sleep(result.getToken().getRemainingTime() + 100L);
+
+        verifiedTokenCache.get("token", validator);
+        assertEquals(2, verified.get());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 결과는 저장하지 않음")
+    void get_InvalidNotCached() {
+        Function<String, TokenValidationResult> validator = token -> {
+            verified.incrementAndGet();
+            return TokenValidationResult.invalid(MemberAuthErrorCode.INCORRECT_ACCESS_TOKEN);
+        };
+
+        assertFalse(verifiedTokenCache.get("token", validator).isValid());
+        assertFalse(verifiedTokenCache.get("token", validator).isValid());
+        assertEquals(2, verified.get());
+    }
+
+    private Function<String, TokenValidationResult> validator(long validity) {
+        DefaultClaims claims = new DefaultClaims();
+        claims.setExpiration(new Date(System.currentTimeMillis() + validity));
+
+        return token -> {
+            verified.incrementAndGet();
+            return TokenValidationResult.valid(new ParsedToken(token, claims));
+        };
+    }
+}
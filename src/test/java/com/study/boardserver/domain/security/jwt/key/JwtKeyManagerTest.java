@@ -0,0 +1,257 @@
+package com.study.boardserver.domain.security.jwt.key;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+class JwtKeyManagerTest {
+
+    private static final long REFRESH_TOKEN_VALID = 600000L;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeEach
+    void clear() {
+        stringRedisTemplate.delete(JwtKeyManager.JWKS_KEY);
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        containers.clear();
+    }
+
+    @Test
+    @DisplayName("key 교체 후에도 이전 key 로 서명한 token 검증")
+    void rotate() {
+        JwtKeyManager jwtKeyManager = createManager(0L);
+        JwtSigningKey oldKey = jwtKeyManager.getCurrentKey();
+        String token = sign(oldKey);
+
+        jwtKeyManager.rotate();
+
+        assertNotEquals(oldKey.getKeyId(), jwtKeyManager.getCurrentKey().getKeyId());
+        assertEquals("email", parse(jwtKeyManager, token));
+        assertEquals("email", parse(jwtKeyManager, sign(jwtKeyManager.getCurrentKey())));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 만든 key 는 kid 로 redis 에서 조회해 검증")
+    void resolveSigningKey_PublishedKey() {
+        JwtKeyManager other = createManager(0L);
+        JwtKeyManager jwtKeyManager = createManager(0L);
+
+        assertEquals("email", parse(jwtKeyManager, sign(other.getCurrentKey())));
+    }
+
+    @Test
+    @DisplayName("모르는 kid 가 들어오면 간격 안에서는 redis 를 다시 조회하지 않음")
+    void resolveSigningKey_UnknownKeyCached() {
+        JwtKeyManager jwtKeyManager = createManager(60000L);
+
+        assertThrows(SignatureException.class, () -> parse(jwtKeyManager, forged()));
+
+        // 간격 안에 새로 공유된 key 는 아직 모름
+        JwtKeyManager other = createManager(0L);
+        String token = sign(other.getCurrentKey());
+        assertThrows(SignatureException.class, () -> parse(jwtKeyManager, token));
+
+        ReflectionTestUtils.setField(jwtKeyManager, "keyRefreshInterval", 0L);
+        assertEquals("email", parse(jwtKeyManager, token));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 교체한 key 는 channel 로 받아 간격 안에서도 검증")
+    void rotate_Propagated() throws InterruptedException {
+        JwtKeyManager other = createManager(60000L);
+        RedisMessageListenerContainer container = newContainer();
+        JwtKeyManager jwtKeyManager = createManager(60000L, container);
+        container.start();
+
+        // 모르는 kid 로 redis 조회 간격을 이미 사용
+        assertThrows(SignatureException.class, () -> parse(jwtKeyManager, forged()));
+
+        other.rotate();
+
+        assertTrue(awaitVerified(jwtKeyManager, sign(other.getCurrentKey())));
+    }
+
+    @Test
+    @DisplayName("kid 의 서명 알고리즘과 다른 token 은 거절")
+    void resolveSigningKey_AlgorithmMismatch() {
+        JwtKeyManager jwtKeyManager = createManager(0L);
+        String token = Jwts.builder()
+                .setHeaderParam("kid", jwtKeyManager.getCurrentKey().getKeyId())
+                .claim("email", "email")
+                .signWith(SignatureAlgorithm.HS256, "secret_key".getBytes(StandardCharsets.UTF_8))
+                .compact();
+
+        SignatureException exception = assertThrows(SignatureException.class, () -> parse(jwtKeyManager, token));
+        assertTrue(exception.getMessage().contains("mismatch"));
+    }
+
+    @Test
+    @DisplayName("만료된 key 로 서명한 token 은 거절")
+    void resolveSigningKey_ExpiredKey() {
+        JwtKeyManager jwtKeyManager = createManager(0L);
+        KeyPair keyPair = generateKeyPair();
+        JwtSigningKey expired = new JwtSigningKey("expired", SignatureAlgorithm.ES256,
+                keyPair.getPrivate(), keyPair.getPublic(), System.currentTimeMillis() - 1);
+        keys(jwtKeyManager).put(expired.getKeyId(), expired);
+
+        assertThrows(SignatureException.class, () -> parse(jwtKeyManager, sign(expired)));
+    }
+
+    @Test
+    @DisplayName("JWKS 에 모든 서버의 공개 key 를 JWK 형식으로 제공")
+    void getJwks() throws Exception {
+        JwtKeyManager other = createManager(0L);
+        JwtKeyManager jwtKeyManager = createManager(0L);
+
+        List<Map<String, String>> jwks = jwtKeyManager.getJwks();
+
+        assertEquals(2, jwks.size());
+        for (JwtKeyManager manager : List.of(other, jwtKeyManager)) {
+            JwtSigningKey key = manager.getCurrentKey();
+            Map<String, String> jwk = jwks.stream()
+                    .filter(it -> key.getKeyId().equals(it.get("kid")))
+                    .findFirst().orElseThrow();
+
+            assertEquals("EC", jwk.get("kty"));
+            assertEquals("P-256", jwk.get("crv"));
+            assertEquals("ES256", jwk.get("alg"));
+
+            // JWK 좌표로 만든 공개 key 로 서명 검증
+            PublicKey publicKey = toPublicKey(jwk, (ECPublicKey) key.getVerifyKey());
+            assertEquals("email", Jwts.parser().setSigningKey(publicKey)
+                    .parseClaimsJws(sign(key)).getBody().get("email"));
+        }
+    }
+
+    @Test
+    @DisplayName("HS256 은 JWKS 를 제공하지 않음")
+    void getJwks_Hmac() {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(stringRedisTemplate, newContainer());
+        ReflectionTestUtils.setField(jwtKeyManager, "secretKey", "secret_key");
+        ReflectionTestUtils.setField(jwtKeyManager, "algorithm", SignatureAlgorithm.HS256);
+        ReflectionTestUtils.invokeMethod(jwtKeyManager, "init");
+
+        assertTrue(jwtKeyManager.getJwks().isEmpty());
+    }
+
+    private JwtKeyManager createManager(long keyRefreshInterval) {
+        return createManager(keyRefreshInterval, newContainer());
+    }
+
+    private JwtKeyManager createManager(long keyRefreshInterval, RedisMessageListenerContainer container) {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(stringRedisTemplate, container);
+        ReflectionTestUtils.setField(jwtKeyManager, "secretKey", "secret_key");
+        ReflectionTestUtils.setField(jwtKeyManager, "algorithm", SignatureAlgorithm.ES256);
+        ReflectionTestUtils.setField(jwtKeyManager, "refreshTokenValid", REFRESH_TOKEN_VALID);
+        ReflectionTestUtils.setField(jwtKeyManager, "rotationInterval", REFRESH_TOKEN_VALID);
+        ReflectionTestUtils.setField(jwtKeyManager, "keyRefreshInterval", keyRefreshInterval);
+        ReflectionTestUtils.invokeMethod(jwtKeyManager, "init");
+        return jwtKeyManager;
+    }
+
+    private RedisMessageListenerContainer newContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+        return container;
+    }
+
+    private static String forged() {
+        return Jwts.builder()
+                .setHeaderParam("kid", "forged")
+                .claim("email", "email")
+                .signWith(SignatureAlgorithm.ES256, generateKeyPair().getPrivate())
+                .compact();
+    }
+
+    private static boolean awaitVerified(JwtKeyManager jwtKeyManager, String token) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            try {
+                return "email".equals(parse(jwtKeyManager, token));
+            } catch (SignatureException e) {
+                Thread.sleep(20L);
+            }
+        }
+        return false;
+    }
+
+    private static String sign(JwtSigningKey key) {
+        return Jwts.builder()
+                .setHeaderParam("kid", key.getKeyId())
+                .claim("email", "email")
+                .signWith(key.getAlgorithm(), key.getSigningKey())
+                .compact();
+    }
+
+    private static Object parse(JwtKeyManager jwtKeyManager, String token) {
+        return Jwts.parser().setSigningKeyResolver(jwtKeyManager).parseClaimsJws(token).getBody().get("email");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, JwtSigningKey> keys(JwtKeyManager jwtKeyManager) {
+        return (Map<String, JwtSigningKey>) ReflectionTestUtils.getField(jwtKeyManager, "keys");
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PublicKey toPublicKey(Map<String, String> jwk, ECPublicKey reference) throws Exception {
+        ECPoint point = new ECPoint(new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("x"))),
+                new BigInteger(1, Base64.getUrlDecoder().decode(jwk.get("y"))));
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(point, reference.getParams()));
+    }
+}
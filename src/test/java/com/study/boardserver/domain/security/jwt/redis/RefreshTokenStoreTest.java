@@ -0,0 +1,208 @@
+package com.study.boardserver.domain.security.jwt.redis;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.study.boardserver.domain.security.jwt.redis.RefreshTokenStore.RotateResult.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+public class RefreshTokenStoreTest {
+
+    private static final String EMAIL = "test@test.com";
+    private static final long EXPIRATION = 60000L;
+    private static final long GRACE_PERIOD = 10000L;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void clear() {
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, GRACE_PERIOD);
+        stringRedisTemplate.delete(stringRedisTemplate.keys("*" + EMAIL + "*"));
+    }
+
+    @Test
+    @DisplayName("refresh token 교체 성공")
+    void rotate_Success() {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id2", EXPIRATION).getResult());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id2", "session1", 0), "token-id3", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("refresh token 교체 실패 - 토큰 존재 X")
+    void rotate_Fail_NotExist() {
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id2", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("refresh token 교체 실패 - 이미 사용된 토큰 (재사용 시 해당 기기 토큰만 삭제)")
+    void rotate_Fail_Reused() {
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, 0L);
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+        refreshTokenStore.save(EMAIL, "session2", "token-id9", EXPIRATION);
+        refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id2", EXPIRATION);
+
+        assertEquals(REUSED, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION).getResult());
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id2", "session1", 0), "token-id4", EXPIRATION).getResult());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id9", "session2", 0), "token-id10", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 직전 token 으로 다시 교체하면 먼저 교체된 jti 반환 (session 유지)")
+    void rotate_GracePeriod() {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+
+        RefreshTokenStore.Rotation first = refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id2", EXPIRATION);
+        RefreshTokenStore.Rotation second = refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION);
+
+        assertEquals(ROTATED, first.getResult());
+        assertEquals("token-id2", first.getTokenId());
+        assertEquals(ROTATED, second.getResult());
+        assertEquals("token-id2", second.getTokenId());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id2", "session1", 0), "token-id4", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 직전 token 을 사용하면 재사용으로 보고 session 삭제")
+    void rotate_Fail_ReusedAfterGracePeriod() throws InterruptedException {
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, 50L);
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+        refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id2", EXPIRATION);
+
+        Thread.sleep(100L);
+
+        assertEquals(REUSED, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION).getResult());
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id2", "session1", 0), "token-id4", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("같은 token 으로 동시에 교체해도 모두 같은 jti 를 받고 session 유지")
+    void rotate_Concurrent() throws Exception {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<RefreshTokenStore.Rotation>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String newTokenId = "new-token-id" + i;
+                futures.add(executor.submit(() ->
+                        refreshTokenStore.rotate(token("token-id1", "session1", 0), newTokenId, EXPIRATION)));
+            }
+
+            Set<String> tokenIds = new HashSet<>();
+            for (Future<RefreshTokenStore.Rotation> future : futures) {
+                RefreshTokenStore.Rotation rotation = future.get();
+                assertEquals(ROTATED, rotation.getResult());
+                tokenIds.add(rotation.getTokenId());
+            }
+
+            assertEquals(1, tokenIds.size());
+            assertEquals(ROTATED, refreshTokenStore.rotate(token(tokenIds.iterator().next(), "session1", 0),
+                    "token-id2", EXPIRATION).getResult());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("기기별 refresh token 은 서로 독립적으로 교체")
+    void rotate_MultipleSessions() {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+        refreshTokenStore.save(EMAIL, "session2", "token-id2", EXPIRATION);
+
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION).getResult());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id2", "session2", 0), "token-id4", EXPIRATION).getResult());
+        assertEquals(2L, stringRedisTemplate.opsForZSet().size("sessions:" + EMAIL));
+    }
+
+    @Test
+    @DisplayName("기기 수 제한을 넘으면 가장 오래된 session 삭제")
+    void save_EvictOldest() {
+        for (int i = 0; i <= 10; i++) {
+            refreshTokenStore.save(EMAIL, "session" + i, "token-id" + i, EXPIRATION + i);
+        }
+
+        assertEquals(10L, stringRedisTemplate.opsForZSet().size("sessions:" + EMAIL));
+        assertEquals(Boolean.FALSE, stringRedisTemplate.hasKey("refreshTokenId:" + EMAIL + ":session0"));
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id0", "session0", 0), "new-token-id", EXPIRATION).getResult());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id10", "session10", 0), "new-token-id", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("한 기기 로그아웃")
+    void delete() {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+        refreshTokenStore.save(EMAIL, "session2", "token-id2", EXPIRATION);
+
+        refreshTokenStore.delete(EMAIL, "session1");
+
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION).getResult());
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id2", "session2", 0), "token-id4", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("세대 번호 증가 후 이전 세대 token 은 교체 불가")
+    void deleteAll() {
+        refreshTokenStore.save(EMAIL, "session1", "token-id1", EXPIRATION);
+        refreshTokenStore.save(EMAIL, "session2", "token-id2", EXPIRATION);
+
+        stringRedisTemplate.opsForValue().increment("tokenVersion:" + EMAIL);
+        refreshTokenStore.deleteAll(EMAIL);
+
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id1", "session1", 0), "token-id3", EXPIRATION).getResult());
+        assertEquals(NOT_EXIST, refreshTokenStore.rotate(token("token-id2", "session2", 0), "token-id4", EXPIRATION).getResult());
+
+        refreshTokenStore.save(EMAIL, "session3", "token-id5", EXPIRATION);
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id5", "session3", 1), "token-id6", EXPIRATION).getResult());
+    }
+
+    @Test
+    @DisplayName("이전 방식(@RedisHash)으로 저장된 refresh token 교체")
+    void rotate_Legacy() {
+        stringRedisTemplate.opsForHash().put("refreshToken:" + EMAIL, "refreshToken", "token-token-id1");
+        stringRedisTemplate.opsForSet().add("refreshToken", EMAIL);
+
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id1", null, 0), "token-id2", EXPIRATION).getResult());
+        assertFalse(stringRedisTemplate.hasKey("refreshToken:" + EMAIL));
+        assertFalse(stringRedisTemplate.opsForSet().isMember("refreshToken", EMAIL));
+        assertEquals(ROTATED, refreshTokenStore.rotate(token("token-id2", null, 0), "token-id3", EXPIRATION).getResult());
+    }
+
+    private static ParsedToken token(String tokenId, String sessionId, long tokenVersion) {
+        Claims claims = Jwts.claims().setId(tokenId);
+        claims.put("email", EMAIL);
+        claims.put("role", "ROLE_USER");
+        if (sessionId != null) {
+            claims.put("sid", sessionId);
+            claims.put("tokenVersion", tokenVersion);
+        }
+        claims.setExpiration(new Date(System.currentTimeMillis() + EXPIRATION));
+        return new ParsedToken("token-" + tokenId, claims);
+    }
+}
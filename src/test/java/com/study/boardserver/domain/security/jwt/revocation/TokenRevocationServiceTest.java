@@ -0,0 +1,233 @@
+package com.study.boardserver.domain.security.jwt.revocation;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import com.study.boardserver.domain.security.jwt.ParsedToken;
+import com.study.boardserver.global.redis.RedisTokenStore;
+import com.study.boardserver.global.redis.TokenType;
+import io.jsonwebtoken.impl.DefaultClaims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+class TokenRevocationServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+    private static final String INDEX_KEY = "logoutTokens";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeEach
+    void clear() {
+        stringRedisTemplate.delete(stringRedisTemplate.keys("logout*"));
+    }
+
+    @AfterEach
+    void stop() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        containers.clear();
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 로그아웃한 token 을 channel 로 받아 로컬 캐시에 반영")
+    void revoke_Propagated() throws InterruptedException {
+        TokenRevocationService node1 = newNode();
+        TokenRevocationService node2 = newNode();
+        node1.synchronize();
+        node2.synchronize();
+
+        ParsedToken token = token(60000L);
+        node1.revoke(token);
+
+        assertTrue(node1.isRevoked(token));
+        assertTrue(awaitRevoked(node2, token));
+    }
+
+    @Test
+    @DisplayName("channel 메시지를 놓쳐도 주기적인 동기화 때 redis 에서 가져옴")
+    void synchronize_MissedMessage() {
+        TokenRevocationService node = newNode();
+        node.synchronize();
+
+        ParsedToken token = token(60000L);
+        saveToRedis(token);
+
+        assertFalse(node.isRevoked(token));
+
+        node.synchronize();
+
+        assertTrue(node.isRevoked(token));
+    }
+
+    @Test
+    @DisplayName("동기화 때 만료된 token 은 로컬 캐시와 redis index 에서 삭제")
+    void synchronize_RemoveExpired() throws InterruptedException {
+        TokenRevocationService node = newNode();
+        node.synchronize();
+
+        // 만료 시각은 초 단위로 저장된다
+        ParsedToken expiring = token(1500L);
+        ParsedToken valid = token(60000L);
+        node.revoke(expiring);
+        node.revoke(valid);
+        assertEquals(2, revokedTokens(node).size());
+
+        Thread.sleep(1600L);
+        node.synchronize();
+
+        assertEquals(Map.of(valid.getTokenId(), valid.getExpiration().getTime()), revokedTokens(node));
+        assertNull(stringRedisTemplate.opsForZSet().score(INDEX_KEY, expiring.getTokenId()));
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 로컬 캐시 대신 redis 에서 확인")
+    void isRevoked_BeforeSynchronize() {
+        TokenRevocationService node = newNode();
+
+        ParsedToken stored = token(60000L);
+        saveToRedis(stored);
+        assertTrue(node.isRevoked(stored));
+
+        // 로컬 캐시에만 있는 token 은 redis 기준으로 판단
+        ParsedToken local = token(60000L);
+        node.onMessage(new DefaultMessage(TokenRevocationService.LOGOUT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                (local.getTokenId() + " " + local.getExpiration().getTime()).getBytes(StandardCharsets.UTF_8)), null);
+        assertFalse(node.isRevoked(local));
+    }
+
+    @Test
+    @DisplayName("시작 시 redis 의 로그아웃 token 으로 로컬 캐시를 다시 만듦")
+    void synchronize_Startup() {
+        ParsedToken token = token(60000L);
+        newNode().revoke(token);
+
+        // 새로 기동한 서버
+        TokenRevocationService node = newNode();
+        node.synchronize();
+
+        // 이후 조회는 redis 를 거치지 않음
+        stringRedisTemplate.delete(TokenType.LOGOUT_ACCESS_TOKEN.key(token.getTokenId()));
+        assertTrue(node.isRevoked(token));
+        assertFalse(node.isRevoked(token(60000L)));
+    }
+
+    @Test
+    @DisplayName("jti 가 없는 이전 token 은 동기화 전에는 이전 형식의 key 를, 동기화 후에는 로컬 캐시를 확인")
+    void isRevoked_Legacy() {
+        TokenRevocationService node = newNode();
+        ParsedToken legacy = legacyToken("legacy.access.token");
+        saveLegacy(legacy);
+
+        // 데이터 이전 전
+        assertTrue(node.isRevoked(legacy));
+
+        node.synchronize();
+
+        // 첫 동기화 때 로컬 캐시에 반영되어 이후 조회는 redis 를 거치지 않음
+        stringRedisTemplate.delete("logoutAccessToken:" + legacy.getToken());
+        assertTrue(node.isRevoked(legacy));
+        assertFalse(node.isRevoked(legacyToken("other.access.token")));
+        assertTrue(revokedTokens(node).get(legacy.getTokenId()) > System.currentTimeMillis());
+
+        // 데이터 이전 후에는 token hash 로 확인
+        ParsedToken migrated = legacyToken("migrated.access.token");
+        node.revoke(migrated);
+        assertTrue(node.isRevoked(migrated));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 무시")
+    void onMessage_Invalid() {
+        TokenRevocationService node = newNode();
+
+        node.onMessage(new DefaultMessage(TokenRevocationService.LOGOUT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "invalid".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertTrue(revokedTokens(node).isEmpty());
+    }
+
+    private TokenRevocationService newNode() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.afterPropertiesSet();
+        containers.add(container);
+
+        TokenRevocationService service = new TokenRevocationService(new RedisTokenStore(stringRedisTemplate),
+                stringRedisTemplate, container);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+
+    private void saveToRedis(ParsedToken token) {
+        new RedisTokenStore(stringRedisTemplate)
+                .save(TokenType.LOGOUT_ACCESS_TOKEN, token.getTokenId(), EMAIL, token.getRemainingTime());
+        stringRedisTemplate.opsForZSet().add(INDEX_KEY, token.getTokenId(), token.getExpiration().getTime());
+    }
+
+    private void saveLegacy(ParsedToken token) {
+        String key = "logoutAccessToken:" + token.getToken();
+        stringRedisTemplate.opsForHash().put(key, "email", EMAIL);
+        stringRedisTemplate.expire(key, Duration.ofMinutes(1));
+        stringRedisTemplate.opsForSet().add("logoutAccessToken", token.getToken());
+    }
+
+    private static ParsedToken token(long validity) {
+        DefaultClaims claims = new DefaultClaims();
+        claims.setId(UUID.randomUUID().toString());
+        claims.setExpiration(new Date(System.currentTimeMillis() + validity));
+        claims.put("email", EMAIL);
+        return new ParsedToken("token", claims);
+    }
+
+    private static ParsedToken legacyToken(String token) {
+        DefaultClaims claims = new DefaultClaims();
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60000L));
+        claims.put("email", EMAIL);
+        return new ParsedToken(token, claims);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> revokedTokens(TokenRevocationService service) {
+        return (Map<String, Long>) ReflectionTestUtils.getField(service, "revokedTokens");
+    }
+
+    private static boolean awaitRevoked(TokenRevocationService service, ParsedToken token) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (service.isRevoked(token)) {
+                return true;
+            }
+            Thread.sleep(20L);
+        }
+        return false;
+    }
+}
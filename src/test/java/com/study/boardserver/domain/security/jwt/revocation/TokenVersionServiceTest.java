@@ -0,0 +1,80 @@
+package com.study.boardserver.domain.security.jwt.revocation;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import com.study.boardserver.global.redis.RedisTokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+class TokenVersionServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    void init() {
+        tokenVersionService = new TokenVersionService(new RedisTokenStore(stringRedisTemplate), stringRedisTemplate,
+                new RedisMessageListenerContainer(), 60000L, 100L);
+        stringRedisTemplate.delete(Arrays.asList("tokenVersion:" + EMAIL, "tokenVersion:test2@test.com"));
+    }
+
+    @Test
+    @DisplayName("세대 번호가 없으면 0")
+    void getVersion_Default() {
+        assertEquals(0L, tokenVersionService.getVersion(EMAIL));
+    }
+
+    @Test
+    @DisplayName("세대 번호 증가 시 로컬 캐시도 갱신")
+    void increment() {
+        assertEquals(0L, tokenVersionService.getVersion(EMAIL));
+
+        tokenVersionService.increment(EMAIL);
+
+        assertEquals(1L, tokenVersionService.getVersion(EMAIL));
+        assertEquals(1L, tokenVersionService.loadVersion(EMAIL));
+    }
+
+    @Test
+    @DisplayName("여러 회원 세대 번호를 한 번에 증가")
+    void incrementAll() {
+        tokenVersionService.increment(EMAIL);
+
+        assertEquals(2, tokenVersionService.incrementAll(Arrays.asList(EMAIL, "test2@test.com")));
+        assertEquals(2L, tokenVersionService.getVersion(EMAIL));
+        assertEquals(1L, tokenVersionService.getVersion("test2@test.com"));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 증가시킨 세대 번호는 메시지 수신 후 반영")
+    void onMessage() {
+        assertEquals(0L, tokenVersionService.getVersion(EMAIL));
+
+        stringRedisTemplate.opsForValue().increment("tokenVersion:" + EMAIL);
+        assertEquals(0L, tokenVersionService.getVersion(EMAIL));
+
+        tokenVersionService.onMessage(new DefaultMessage(
+                TokenVersionService.VERSION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+        assertEquals(1L, tokenVersionService.getVersion(EMAIL));
+    }
+}
@@ -0,0 +1,89 @@
+package com.study.boardserver.domain.security.oauth2.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AuthorizationRequestCookieCodecTest {
+
+    private final AuthorizationRequestCookieCodec codec =
+            new AuthorizationRequestCookieCodec(new ObjectMapper(), "secret_key");
+
+    @Test
+    @DisplayName("encode 한 값을 그대로 decode")
+    void decode() {
+        OAuth2AuthorizationRequest request = authorizationRequest("state");
+
+        OAuth2AuthorizationRequest decoded = codec.decode(codec.encode(request, 60));
+
+        assertNotNull(decoded);
+        assertEquals(request.getAuthorizationUri(), decoded.getAuthorizationUri());
+        assertEquals(request.getClientId(), decoded.getClientId());
+        assertEquals(request.getRedirectUri(), decoded.getRedirectUri());
+        assertEquals(request.getScopes(), decoded.getScopes());
+        assertEquals(request.getState(), decoded.getState());
+        assertEquals(request.getAttributes(), decoded.getAttributes());
+        assertEquals(request.getAuthorizationRequestUri(), decoded.getAuthorizationRequestUri());
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않으면 null")
+    void decode_Tampered() {
+        String value = codec.encode(authorizationRequest("state"), 60);
+        String tampered = value.substring(0, 1) + (value.charAt(1) == 'A' ? 'B' : 'A') + value.substring(2);
+
+        assertNull(codec.decode(tampered));
+        assertNull(new AuthorizationRequestCookieCodec(new ObjectMapper(), "other_key").decode(value));
+        assertNull(codec.decode("invalid"));
+    }
+
+    @Test
+    @DisplayName("만료된 값은 null")
+    void decode_Expired() {
+        String value = codec.encode(authorizationRequest("state"), -1);
+
+        assertNull(codec.decode(value));
+    }
+
+    @Test
+    @DisplayName("authorization_code 가 아닌 grant type 은 null")
+    void fromJson_UnsupportedGrantType() {
+        String json = codec.toJson(authorizationRequest("state"));
+
+        assertNotNull(codec.fromJson(json));
+        assertNull(codec.fromJson(json.replace("\"authorization_code\"", "\"implicit\"")));
+    }
+
+    @Test
+    @DisplayName("payload 가 크면 압축하여 저장")
+    void encode_Compressed() {
+        String state = String.join("", Collections.nCopies(50, "state"));
+
+        String value = codec.encode(authorizationRequest(state), 60);
+        byte[] body = Base64.getUrlDecoder().decode(value.substring(0, value.indexOf('.')));
+
+        assertEquals(1, body[0]);
+        assertEquals(state, codec.decode(value).getState());
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest(String state) {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("profile", "email"))
+                .state(state)
+                .attributes(attributes -> attributes.put(OAuth2ParameterNames.REGISTRATION_ID, "google"))
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.study.boardserver.domain.security.oauth2.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import com.study.boardserver.global.redis.RedisTokenStore;
+import com.study.boardserver.global.redis.TokenType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.servlet.http.Cookie;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.study.boardserver.domain.security.oauth2.repository.OAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+public class RedisAuthorizationRequestRepositoryTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisAuthorizationRequestRepository authorizationRequestRepository;
+
+    @BeforeEach
+    void setUp() {
+        authorizationRequestRepository = new RedisAuthorizationRequestRepository(
+                new RedisTokenStore(stringRedisTemplate),
+                new AuthorizationRequestCookieCodec(new ObjectMapper(), "secret_key"));
+    }
+
+    @Test
+    @DisplayName("인증 요청은 redis 에 저장하고 쿠키에는 key 만 저장")
+    void saveAuthorizationRequest() {
+        OAuth2AuthorizationRequest authorizationRequest = authorizationRequest();
+
+        Cookie cookie = save(authorizationRequest);
+
+        assertTrue(cookie.getValue().length() < 32);
+        assertTrue(stringRedisTemplate.hasKey(TokenType.OAUTH2_AUTHORIZATION_REQUEST.key(cookie.getValue())));
+
+        OAuth2AuthorizationRequest loaded = authorizationRequestRepository.loadAuthorizationRequest(request(cookie));
+        assertEquals(authorizationRequest.getState(), loaded.getState());
+        assertEquals(authorizationRequest.getAuthorizationRequestUri(), loaded.getAuthorizationRequestUri());
+    }
+
+    @Test
+    @DisplayName("인증 요청은 한 번만 꺼낼 수 있음")
+    void removeAuthorizationRequest() {
+        Cookie cookie = save(authorizationRequest());
+
+        assertNotNull(authorizationRequestRepository.removeAuthorizationRequest(request(cookie), new MockHttpServletResponse()));
+        assertNull(authorizationRequestRepository.removeAuthorizationRequest(request(cookie), new MockHttpServletResponse()));
+    }
+
+    @Test
+    @DisplayName("같은 인증 요청을 동시에 꺼내도 한 곳에서만 받음")
+    void removeAuthorizationRequest_Concurrent() throws Exception {
+        Cookie cookie = save(authorizationRequest());
+        Callable<OAuth2AuthorizationRequest> remove = () -> authorizationRequestRepository.removeAuthorizationRequest(request(cookie), new MockHttpServletResponse());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<OAuth2AuthorizationRequest>> results = executor.invokeAll(
+                    IntStream.range(0, 8).mapToObj(i -> remove).collect(Collectors.toList()));
+
+            long removed = 0;
+            for (Future<OAuth2AuthorizationRequest> result : results) {
+                if (Objects.nonNull(result.get())) {
+                    removed++;
+                }
+            }
+            assertEquals(1, removed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("쿠키가 없거나 key 가 없으면 null")
+    void loadAuthorizationRequest_NotExist() {
+        assertNull(authorizationRequestRepository.loadAuthorizationRequest(new MockHttpServletRequest()));
+        assertNull(authorizationRequestRepository.loadAuthorizationRequest(
+                request(new Cookie(OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, "unknown"))));
+    }
+
+    private Cookie save(OAuth2AuthorizationRequest authorizationRequest) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authorizationRequestRepository.saveAuthorizationRequest(authorizationRequest, new MockHttpServletRequest(), response);
+        return response.getCookie(OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
+    }
+
+    private static MockHttpServletRequest request(Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(cookie);
+        return request;
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("profile", "email"))
+                .state("state")
+                .build();
+    }
+}
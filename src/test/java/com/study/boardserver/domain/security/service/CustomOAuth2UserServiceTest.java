@@ -0,0 +1,134 @@
+package com.study.boardserver.domain.security.service;
+
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.member.type.MemberStatus;
+import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.domain.security.config.OAuth2ClientConfig;
+import com.study.boardserver.domain.security.oauth2.type.ProviderType;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * user-info 요청은 로컬 stub 서버로 전송
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomOAuth2UserServiceTest {
+
+    private static final String EMAIL = "test@gmail.com";
+    private static final String PICTURE = "https://image.test/picture.png";
+    private static final String USER_INFO = "{\"sub\":\"1234\",\"email\":\"" + EMAIL + "\",\"name\":\"test\",\"picture\":\"" + PICTURE + "\"}";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private HttpServer server;
+
+    private CustomOAuth2UserService customOAuth2UserService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/userinfo", exchange -> {
+            byte[] body = USER_INFO.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        customOAuth2UserService = new CustomOAuth2UserService(memberRepository, eventPublisher,
+                new OAuth2ClientConfig().oAuth2UserInfoRestOperations(500, 200, 5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("user-info 는 한 번만 파싱하여 CustomUserDetails 에 저장")
+    void loadUser() {
+        Member member = Member.builder()
+                .email(EMAIL)
+                .role(MemberRole.ROLE_USER)
+                .imgUrl(PICTURE)
+                .status(MemberStatus.ACTIVE)
+                .providerType(ProviderType.GOOGLE)
+                .build();
+
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+
+        CustomUserDetails userDetails = (CustomUserDetails) customOAuth2UserService.loadUser(userRequest("/userinfo"));
+
+        assertEquals(EMAIL, userDetails.getUserInfo().getEmail());
+        assertEquals("1234", userDetails.getUserInfo().getProviderId());
+        assertEquals(EMAIL, userDetails.getUsername());
+        verify(memberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("user-info 응답이 read timeout 을 넘기면 인증 실패")
+    void loadUser_Timeout() {
+        assertThrows(OAuth2AuthenticationException.class,
+                () -> customOAuth2UserService.loadUser(userRequest("/slow")));
+    }
+
+    private OAuth2UserRequest userRequest(String path) {
+        ClientRegistration clientRegistration = ClientRegistration.withRegistrationId("google")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri("http://localhost/auth")
+                .tokenUri("http://localhost/token")
+                .userInfoUri("http://localhost:" + server.getAddress().getPort() + path)
+                .userNameAttributeName("sub")
+                .build();
+
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, "access-token",
+                Instant.now(), Instant.now().plusSeconds(60));
+
+        return new OAuth2UserRequest(clientRegistration, accessToken);
+    }
+}
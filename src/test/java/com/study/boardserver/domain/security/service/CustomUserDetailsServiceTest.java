@@ -0,0 +1,115 @@
+package com.study.boardserver.domain.security.service;
+
+import com.study.boardserver.domain.member.entity.Member;
+import com.study.boardserver.domain.member.event.MemberUpdatedEvent;
+import com.study.boardserver.domain.member.repository.MemberRepository;
+import com.study.boardserver.domain.member.type.MemberRole;
+import com.study.boardserver.domain.security.CustomUserDetails;
+import com.study.boardserver.global.error.exception.MemberAuthException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static com.study.boardserver.global.config.CacheConfig.MEMBER_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "test@test.com";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private CustomUserDetailsService customUserDetailsService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        customUserDetailsService = new CustomUserDetailsService(memberRepository,
+                new CaffeineCacheManager(MEMBER_CACHE), stringRedisTemplate, redisMessageListenerContainer);
+        ReflectionTestUtils.invokeMethod(customUserDetailsService, "init");
+
+        member = Member.builder()
+                .id(1L)
+                .email(EMAIL)
+                .nickname("닉네임")
+                .role(MemberRole.ROLE_USER)
+                .imgUrl("before.png")
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 DB 조회 없이 반환, 요청마다 새 Member 생성")
+    void loadUserByUsername_Hit() {
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+
+        CustomUserDetails first = (CustomUserDetails) customUserDetailsService.loadUserByUsername(EMAIL);
+        first.getMember().setImgUrl("changed.png");
+        CustomUserDetails second = (CustomUserDetails) customUserDetailsService.loadUserByUsername(EMAIL);
+
+        verify(memberRepository, times(1)).findByEmail(EMAIL);
+        assertNotSame(first.getMember(), second.getMember());
+        assertEquals(1L, second.getMember().getId());
+        assertEquals("before.png", second.getMember().getImgUrl());
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB 조회, 없는 회원은 캐시하지 않음")
+    void loadUserByUsername_Miss() {
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.empty()).willReturn(Optional.of(member));
+
+        assertThrows(MemberAuthException.class, () -> customUserDetailsService.loadUserByUsername(EMAIL));
+        assertEquals(EMAIL, customUserDetailsService.loadUserByUsername(EMAIL).getUsername());
+
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 시 캐시를 비우고 다른 서버에 전파")
+    void evictMember() {
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        customUserDetailsService.evictMember(new MemberUpdatedEvent(EMAIL));
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+        verify(stringRedisTemplate).convertAndSend(CustomUserDetailsService.MEMBER_EVICT_CHANNEL, EMAIL);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 변경된 회원을 수신하면 캐시를 비움")
+    void onMessage() {
+        given(memberRepository.findByEmail(EMAIL)).willReturn(Optional.of(member));
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        customUserDetailsService.onMessage(new DefaultMessage(
+                CustomUserDetailsService.MEMBER_EVICT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                EMAIL.getBytes(StandardCharsets.UTF_8)), null);
+        customUserDetailsService.loadUserByUsername(EMAIL);
+
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+}
@@ -0,0 +1,67 @@
+package com.study.boardserver.global.error.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.study.boardserver.global.error.type.BoardErrorCode;
+import com.study.boardserver.global.error.type.MemberAuthErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ErrorResponseWriter errorResponseWriter;
+
+    @BeforeEach
+    void init() throws Exception {
+        errorResponseWriter = new ErrorResponseWriter(objectMapper);
+    }
+
+    @Test
+    @DisplayName("error code 의 status 와 메시지로 응답")
+    void toResponseEntity() throws Exception {
+        ResponseEntity<byte[]> response = errorResponseWriter.toResponseEntity(BoardErrorCode.POST_NOT_FOUND);
+        JsonNode body = objectMapper.readTree(response.getBody());
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(404, body.get("status").asInt());
+        assertEquals(BoardErrorCode.POST_NOT_FOUND.getMessage(), body.get("message").asText());
+        assertSame(response.getBody(), errorResponseWriter.toResponseEntity(BoardErrorCode.POST_NOT_FOUND).getBody());
+    }
+
+    @Test
+    @DisplayName("filter 인증 오류는 error code 와 관계없이 401 로 응답")
+    void writeUnauthorized() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponseWriter.writeUnauthorized(response, MemberAuthErrorCode.MEMBER_NOT_FOUND);
+        JsonNode body = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+
+        assertEquals(401, response.getStatus());
+        assertEquals(401, body.get("status").asInt());
+        assertEquals(MemberAuthErrorCode.MEMBER_NOT_FOUND.getMessage(), body.get("message").asText());
+    }
+
+    @Test
+    @DisplayName("security handler 는 error code 의 status 로 응답")
+    void write() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponseWriter.write(response, MemberAuthErrorCode.FAIL_TO_AUTHORIZATION);
+        JsonNode body = objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+
+        assertEquals(403, response.getStatus());
+        assertEquals(403, body.get("status").asInt());
+        assertEquals(MemberAuthErrorCode.FAIL_TO_AUTHORIZATION.getMessage(), body.get("message").asText());
+    }
+}
@@ -0,0 +1,60 @@
+package com.study.boardserver.global.redis;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+public class RedisLockTest {
+
+    private static final String KEY = "testLock";
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RedisLock redisLock;
+
+    @BeforeEach
+    void clear() {
+        redisLock = new RedisLock(stringRedisTemplate);
+        stringRedisTemplate.delete(KEY);
+    }
+
+    @Test
+    @DisplayName("lock 은 한 곳에서만 획득, 해제는 소유자만 가능")
+    void tryLock() {
+        assertTrue(redisLock.tryLock(KEY, "owner1", 60000L));
+        assertFalse(redisLock.tryLock(KEY, "owner2", 60000L));
+
+        redisLock.unlock(KEY, "owner2");
+        assertFalse(redisLock.tryLock(KEY, "owner2", 60000L));
+
+        redisLock.unlock(KEY, "owner1");
+        assertTrue(redisLock.tryLock(KEY, "owner2", 60000L));
+    }
+
+    @Test
+    @DisplayName("연장은 소유자만 가능")
+    void extend() {
+        redisLock.tryLock(KEY, "owner1", 1000L);
+
+        assertFalse(redisLock.extend(KEY, "owner2", 60000L));
+        assertTrue(redisLock.extend(KEY, "owner1", 60000L));
+        assertTrue(stringRedisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS) > 1000L);
+
+        redisLock.unlock(KEY, "owner1");
+        assertFalse(redisLock.extend(KEY, "owner1", 60000L));
+    }
+}
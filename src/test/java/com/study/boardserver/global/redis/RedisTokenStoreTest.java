@@ -0,0 +1,82 @@
+package com.study.boardserver.global.redis;
+
+import com.study.boardserver.config.EmbeddedRedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataRedisTest
+@Import(EmbeddedRedisConfig.class)
+@ActiveProfiles("test")
+public class RedisTokenStoreTest {
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private TokenStore tokenStore;
+
+    @BeforeEach
+    void clear(){
+        tokenStore = new RedisTokenStore(stringRedisTemplate);
+        tokenStore.delete(TokenType.AUTH_CODE, "abc123");
+    }
+
+    @Test
+    @DisplayName("회원 인증 코드 저장")
+    void save() {
+
+        String email = "test@test.com";
+        String code = "abc123";
+        long expiration = 100000L;
+
+        tokenStore.save(TokenType.AUTH_CODE, code, email, expiration);
+
+        Long ttl = stringRedisTemplate.getExpire(TokenType.AUTH_CODE.key(code), TimeUnit.MILLISECONDS);
+        assertTrue(ttl > 0 && ttl <= expiration);
+        assertEquals("string", stringRedisTemplate.type(TokenType.AUTH_CODE.key(code)).code());
+    }
+
+    @Test
+    @DisplayName("회원 인증 코드 조회")
+    void findAuthCode () {
+
+        String email = "test@test.com";
+        String code = "abc123";
+
+        tokenStore.save(TokenType.AUTH_CODE, code, email, 100000L);
+
+        assertEquals(email, tokenStore.find(TokenType.AUTH_CODE, code).get());
+        assertTrue(tokenStore.exists(TokenType.AUTH_CODE, code));
+        assertFalse(tokenStore.find(TokenType.AUTH_CODE, "abc456").isPresent());
+    }
+
+    @Test
+    @DisplayName("회원 인증 코드 삭제")
+    void delete() {
+
+        tokenStore.save(TokenType.AUTH_CODE, "abc123", "test@test.com", 100000L);
+        tokenStore.delete(TokenType.AUTH_CODE, "abc123");
+
+        assertFalse(tokenStore.exists(TokenType.AUTH_CODE, "abc123"));
+    }
+
+    @Test
+    @DisplayName("회원 인증 코드 조회 후 삭제")
+    void findAndDelete() {
+
+        tokenStore.save(TokenType.AUTH_CODE, "abc123", "test@test.com", 100000L);
+
+        assertEquals("test@test.com", tokenStore.findAndDelete(TokenType.AUTH_CODE, "abc123").get());
+        assertFalse(tokenStore.exists(TokenType.AUTH_CODE, "abc123"));
+        assertFalse(tokenStore.findAndDelete(TokenType.AUTH_CODE, "abc123").isPresent());
+    }
+}